@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Load test: throughput and p99 latency with platform threads vs virtual threads.
+#
+# Usage:
+#   mvn package -DskipTests
+#   DATABASE_URL=... DB_USERNAME=... DB_PASSWORD=... scripts/load-test.sh <path> [concurrency] [duration]
+#   e.g. scripts/load-test.sh /api/menus/1 400 60s
+#
+# Requires 'hey' (https://github.com/rakyll/hey). Results are appended to target/load-test.csv.
+set -euo pipefail
+
+TARGET_PATH="${1:?request path, e.g. /api/menus/1}"
+CONCURRENCY="${2:-400}"
+DURATION="${3:-60s}"
+PORT="${PORT:-8080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$ROOT"/target/menubyte-*.jar | grep -v '\.original$' | head -n 1)"
+RESULTS="$ROOT/target/load-test.csv"
+BASE_URL="http://localhost:${PORT}"
+
+command -v hey > /dev/null || { echo "'hey' is not installed" >&2; exit 1; }
+[ -f "$RESULTS" ] || echo "timestamp,mode,path,concurrency,duration,requests_per_sec,p99_ms,errors" > "$RESULTS"
+
+run_mode() {
+    local mode="$1" virtual="$2" pid output rps p99 errors
+    java -jar "$JAR" --server.port="$PORT" --menubyte.virtual-threads.enabled="$virtual" \
+        > "$ROOT/target/load-test-${mode}.log" 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "$BASE_URL/actuator/health"; do
+        kill -0 "$pid" 2>/dev/null || { echo "$mode exited before serving; see target/load-test-${mode}.log" >&2; exit 1; }
+        sleep 0.2
+    done
+
+    # Warm up JIT and the connection pool before measuring
+    hey -z 10s -c 50 "$BASE_URL$TARGET_PATH" > /dev/null
+    output=$(hey -z "$DURATION" -c "$CONCURRENCY" "$BASE_URL$TARGET_PATH")
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+
+    rps=$(echo "$output" | awk '/Requests\/sec:/ { print $2 }')
+    p99=$(echo "$output" | awk '/ 99% in / { printf "%.1f", $3 * 1000 }')
+    errors=$(echo "$output" | awk '/^  \[[0-9]+\]/ && $1 !~ /\[2/ { n += $2 } END { print n + 0 }')
+    echo "$(date -Iseconds),$mode,$TARGET_PATH,$CONCURRENCY,$DURATION,$rps,$p99,$errors" >> "$RESULTS"
+    printf '%-8s requests_per_sec=%s p99_ms=%s non_2xx=%s\n' "$mode" "$rps" "$p99" "$errors"
+}
+
+run_mode platform false
+run_mode virtual true
@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Startup benchmark: time-to-first-request and RSS for the plain jar vs the AppCDS build.
+#
+# Usage:
+#   mvn -Pcds package -DskipTests
+#   DATABASE_URL=... DB_USERNAME=... DB_PASSWORD=... scripts/startup-benchmark.sh [runs]
+#
+# Optional: SPRING_PROFILES_ACTIVE (e.g. fastboot), PORT (default 8080).
+# Results are appended to target/startup-benchmark.csv.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$ROOT"/target/menubyte-*.jar | grep -v '\.original$' | head -n 1)"
+CDS_DIR="$ROOT/target/cds/app"
+RESULTS="$ROOT/target/startup-benchmark.csv"
+URL="http://localhost:${PORT}/actuator/health"
+SESSION="$(mktemp)"
+trap 'rm -f "$SESSION"' EXIT
+
+[ -f "$CDS_DIR/app.jsa" ] || { echo "No AppCDS archive in $CDS_DIR; run 'mvn -Pcds package' first" >&2; exit 1; }
+[ -f "$RESULTS" ] || echo "timestamp,variant,run,first_request_ms,rss_mb" > "$RESULTS"
+
+now_ms() { date +%s%3N; }
+
+# Starts the given command, waits for the first successful request, records timing and RSS, then stops it.
+measure() {
+    local variant="$1" run="$2" dir="$3"; shift 3
+    local start pid elapsed rss_kb
+    start=$(now_ms)
+    (cd "$dir" && exec "$@" --server.port="$PORT" > "$ROOT/target/startup-benchmark-${variant}.log" 2>&1) &
+    pid=$!
+    until curl -fs -o /dev/null "$URL"; do
+        kill -0 "$pid" 2>/dev/null || { echo "$variant exited before serving; see target/startup-benchmark-${variant}.log" >&2; exit 1; }
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$(date -Iseconds),$variant,$run,$elapsed,$(( rss_kb / 1024 ))" | tee -a "$RESULTS" >> "$SESSION"
+    printf '%-9s run=%s first_request_ms=%s rss_mb=%s\n' "$variant" "$run" "$elapsed" "$(( rss_kb / 1024 ))"
+}
+
+for run in $(seq 1 "$RUNS"); do
+    measure baseline "$run" "$ROOT" java -jar "$JAR"
+    measure appcds "$run" "$CDS_DIR" java -XX:SharedArchiveFile=app.jsa -Xshare:auto \
+        -cp "BOOT-INF/classes:BOOT-INF/lib/*" com.menubyte.MenuByteApplication
+done
+
+echo "Averages for this session:"
+awk -F, '{ t[$2] += $4; r[$2] += $5; n[$2]++ }
+         END { for (v in n) printf "  %-9s first_request_ms=%d rss_mb=%d\n", v, t[v] / n[v], r[v] / n[v] }' "$SESSION"
@@ -8,15 +8,23 @@ package com.menubyte;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync
 public class MenuByteApplication {
+    private static final int STARTUP_STEP_CAPACITY = 10000;
 
     public static void main(String[] args) {
-        // Start the Spring Boot application
-        SpringApplication.run(MenuByteApplication.class, args);
+        // Start the Spring Boot application, buffering startup steps for the /actuator/startup timeline
+        SpringApplication application = new SpringApplication(MenuByteApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
 
         // Logging a welcome message to confirm the app is running
         log.info("MenuByte application is running! Enjoy Digital Menu!!");
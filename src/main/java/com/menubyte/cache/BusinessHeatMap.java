@@ -0,0 +1,131 @@
+package com.menubyte.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate per-business request counts, recorded by {@code RequestLoggingFilter}.
+ *
+ * <p>A count-min sketch (fixed memory, never under-counts) estimates each business's recent requests, and
+ * the {@code top-k} businesses by estimate are tracked as heavy hitters. All counts are halved on a schedule,
+ * so the ranking follows current traffic rather than all-time totals.</p>
+ */
+@Slf4j
+@Component
+public class BusinessHeatMap {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final int width;
+    private final int topK;
+    private final AtomicLongArray counts;
+    private final Map<Long, Long> heavyHitters = new ConcurrentHashMap<>();
+    // Smallest estimate among the heavy hitters once full; cheap pre-check before the O(k) replacement scan
+    private volatile long admissionThreshold;
+
+    public BusinessHeatMap(MeterRegistry meterRegistry,
+                           @Value("${menubyte.heat.sketch-width:4096}") int width,
+                           @Value("${menubyte.heat.top-k:100}") int topK) {
+        this.width = width;
+        this.topK = topK;
+        this.counts = new AtomicLongArray(DEPTH * width);
+        meterRegistry.gaugeMapSize("menubyte.heat.tracked", List.of(), heavyHitters);
+    }
+
+    public void record(long businessId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(row * width + column(row, businessId)));
+        }
+        final long observed = estimate;
+        if (heavyHitters.computeIfPresent(businessId, (id, current) -> Math.max(current, observed)) != null) {
+            return;
+        }
+        // The threshold stays 0 until the map is full, so filling up also goes through admit
+        if (observed > admissionThreshold) {
+            admit(businessId, observed);
+        }
+    }
+
+    /** Up to {@code limit} business IDs, hottest first. */
+    public List<Long> hottest(int limit) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(heavyHitters.entrySet());
+        entries.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+        List<Long> hottest = new ArrayList<>(Math.min(limit, entries.size()));
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            hottest.add(entries.get(i).getKey());
+        }
+        return hottest;
+    }
+
+    /** Current sketch estimate for the business; never below its true count (halved at each decay). */
+    long estimate(long businessId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.get(row * width + column(row, businessId)));
+        }
+        return estimate;
+    }
+
+    /** Halves every count so old traffic fades out. */
+    @Scheduled(fixedDelayString = "${menubyte.heat.decay-ms:600000}", initialDelayString = "${menubyte.heat.decay-ms:600000}")
+    public synchronized void decay() {
+        for (int i = 0; i < counts.length(); i++) {
+            long value;
+            do {
+                value = counts.get(i);
+            } while (value != 0 && !counts.compareAndSet(i, value, value >>> 1));
+        }
+        heavyHitters.replaceAll((id, count) -> count >>> 1);
+        heavyHitters.values().removeIf(count -> count == 0);
+        admissionThreshold = heavyHitters.size() < topK ? 0 : minimum();
+        log.debug("business_heat_decayed tracked={}", heavyHitters.size());
+    }
+
+    /** Adds the business while there is room, else replaces the coldest heavy hitter if it is hotter. */
+    private synchronized void admit(long businessId, long estimate) {
+        if (heavyHitters.computeIfPresent(businessId, (id, current) -> Math.max(current, estimate)) != null) {
+            return;
+        }
+        if (heavyHitters.size() < topK) {
+            heavyHitters.put(businessId, estimate);
+            admissionThreshold = heavyHitters.size() < topK ? 0 : minimum();
+            return;
+        }
+        Long coldest = null;
+        long coldestCount = Long.MAX_VALUE;
+        for (Map.Entry<Long, Long> entry : heavyHitters.entrySet()) {
+            if (entry.getValue() < coldestCount) {
+                coldest = entry.getKey();
+                coldestCount = entry.getValue();
+            }
+        }
+        if (coldest != null && estimate > coldestCount) {
+            heavyHitters.remove(coldest);
+            heavyHitters.put(businessId, estimate);
+        }
+        admissionThreshold = minimum();
+    }
+
+    private long minimum() {
+        return heavyHitters.values().stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    private int column(int row, long businessId) {
+        long hash = (businessId + 1) * SEEDS[row];
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) width);
+    }
+}
@@ -0,0 +1,257 @@
+package com.menubyte.cache;
+
+import com.menubyte.event.ItemAvailabilityChangedEvent;
+import com.menubyte.event.MasterCatalogChangedEvent;
+import com.menubyte.event.MenuChangedEvent;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
+import com.menubyte.event.SubscriptionStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the in-memory caches of several instances coherent through Postgres {@code NOTIFY}, without an
+ * external cache service.
+ *
+ * <p>Writes publish {@code (cacheName, key, version)} on one channel. Inside a transaction the
+ * notification joins it, so other nodes hear about a write only once it commits and never about one that
+ * rolled back. Each node listens on a dedicated connection and applies other nodes' messages by evicting
+ * the matching Spring cache entry and publishing a {@link RemoteCacheInvalidationEvent} for the
+ * component caches. Those bump their per-key generation on receipt, so a load that raced the remote write
+ * is not stored; the version lets a node keep an entry it already reloaded at or past the writer's version.</p>
+ *
+ * <p>Messages sent while a node is disconnected are lost, so after a reconnect the node drops everything.</p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    /** Menu snapshots and search indexes, keyed by business ID. */
+    public static final String MENU = "menu";
+    /** Subscription entitlements, keyed by business ID. */
+    public static final String ENTITLEMENTS = "entitlements";
+    /** Master items (near cache and autocomplete), keyed by master item ID. */
+    public static final String MASTER_ITEMS = "master-items";
+    /** Master category IDs by description in the near cache, keyed by master category ID. */
+    public static final String MASTER_CATEGORY_IDS = "master-category-ids";
+    public static final long NO_VERSION = -1;
+
+    private static final List<String> COMPONENT_CACHES = List.of(MENU, ENTITLEMENTS, MASTER_ITEMS, MASTER_CATEGORY_IDS);
+    // Above this many IDs in one write, a single whole-cache message replaces one message per ID
+    private static final int MAX_KEYS_PER_WRITE = 100;
+    private static final long MAX_RECONNECT_BACKOFF_MS = 30000;
+    private static final String SEPARATOR = "|";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String channel;
+    private final int pollMs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter sent;
+    private final Counter received;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                CacheManager cacheManager,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry,
+                                @Value("${menubyte.cache-bus.enabled:true}") boolean enabled,
+                                @Value("${menubyte.cache-bus.channel:menubyte_cache}") String channel,
+                                @Value("${menubyte.cache-bus.poll-ms:500}") int pollMs) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            // Used unquoted in LISTEN, which takes no bind parameters
+            throw new IllegalArgumentException("Invalid cache bus channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.pollMs = pollMs;
+        this.sent = meterRegistry.counter("menubyte.cache.bus.messages", "direction", "sent");
+        this.received = meterRegistry.counter("menubyte.cache.bus.messages", "direction", "received");
+        this.reconnects = meterRegistry.counter("menubyte.cache.bus.reconnects");
+    }
+
+    /** Tells the other nodes to drop {@code key} (or {@link RemoteCacheInvalidationEvent#ALL_KEYS}) from a cache. */
+    public void publish(String cacheName, Object key, long version) {
+        if (!enabled) {
+            return;
+        }
+        String payload = String.join(SEPARATOR, nodeId, cacheName, String.valueOf(key), Long.toString(version));
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) resultSet -> null, channel, payload);
+            sent.increment();
+        } catch (DataAccessException e) {
+            // Other nodes fall back to their TTLs; the write itself must not fail because of the bus
+            log.warn("cache_bus_publish_failed cacheName={} key={}", cacheName, key, e);
+        }
+    }
+
+    public void publish(String cacheName, Object key) {
+        publish(cacheName, key, NO_VERSION);
+    }
+
+    // Plain listeners run inside the writer's transaction, so the NOTIFY commits or rolls back with it
+
+    @EventListener
+    public void onMenuChanged(MenuChangedEvent event) {
+        publish(MENU, event.getBusinessId());
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(ItemAvailabilityChangedEvent event) {
+        publish(MENU, event.getBusinessId(), event.getContentVersion());
+    }
+
+    @EventListener
+    public void onSubscriptionStatusChanged(SubscriptionStatusChangedEvent event) {
+        if (!event.getBusinessIds().isEmpty()) {
+            publishEach(ENTITLEMENTS, event.getBusinessIds());
+        }
+    }
+
+    @EventListener
+    public void onMasterCatalogChanged(MasterCatalogChangedEvent event) {
+        publishEach(MASTER_ITEMS, event.getMasterItemIds());
+    }
+
+    /** An empty or very large ID list invalidates the whole cache. */
+    private void publishEach(String cacheName, Collection<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_KEYS_PER_WRITE) {
+            publish(cacheName, RemoteCacheInvalidationEvent.ALL_KEYS);
+            return;
+        }
+        ids.forEach(id -> publish(cacheName, id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("cache_bus_disabled");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /** Runs on the listener thread until shutdown, reconnecting with backoff when the connection drops. */
+    private void listen() {
+        long backoffMs = pollMs;
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("cache_bus_listening channel={} nodeId={}", channel, nodeId);
+                if (connectedBefore) {
+                    reconnects.increment();
+                    invalidateEverything();
+                }
+                connectedBefore = true;
+                backoffMs = pollMs;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("cache_bus_connection_lost channel={} retryInMs={}", channel, backoffMs, e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RECONNECT_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        String[] parts = payload.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4) {
+            log.warn("cache_bus_malformed_message payload={}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            // Already applied locally by the writer
+            return;
+        }
+        received.increment();
+        try {
+            invalidateLocally(parts[1], parts[2], Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            // Keep listening; the entry ages out through its TTL
+            log.warn("cache_bus_apply_failed payload={}", payload, e);
+        }
+    }
+
+    private void invalidateLocally(String cacheName, String key, long version) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            if (RemoteCacheInvalidationEvent.ALL_KEYS.equals(key)) {
+                cache.clear();
+            } else {
+                cache.evict(key);
+            }
+        }
+        eventPublisher.publishEvent(new RemoteCacheInvalidationEvent(cacheName, key, version));
+        log.debug("cache_bus_invalidated cacheName={} key={} version={}", cacheName, key, version);
+    }
+
+    private void invalidateEverything() {
+        cacheManager.getCacheNames().forEach(name -> invalidateLocally(name, RemoteCacheInvalidationEvent.ALL_KEYS, NO_VERSION));
+        COMPONENT_CACHES.forEach(name -> invalidateLocally(name, RemoteCacheInvalidationEvent.ALL_KEYS, NO_VERSION));
+        log.info("cache_bus_invalidated_all reason=reconnect");
+    }
+}
@@ -0,0 +1,115 @@
+package com.menubyte.cache;
+
+import com.menubyte.repository.OrderRepository;
+import com.menubyte.search.MenuSearchService;
+import com.menubyte.service.MenuService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the busiest tenants' menu snapshots, search indexes and entitlements resident.
+ *
+ * <p>On startup (before readiness flips to accepting traffic) the hot set comes from configured IDs plus the
+ * businesses with the most recent orders, since a fresh process has no request history. Afterwards it comes
+ * from {@link BusinessHeatMap}. The hot set is re-warmed periodically and ahead of configured service hours;
+ * already-cached snapshots are skipped.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "menubyte.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class HotTenantWarmer {
+
+    private final BusinessHeatMap businessHeatMap;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final SubscriptionEntitlements subscriptionEntitlements;
+    private final MenuSearchService menuSearchService;
+    private final MenuService menuService;
+    private final OrderRepository orderRepository;
+    private final List<Long> configuredBusinessIds;
+    private final int maxTenants;
+    private final int orderLookbackDays;
+
+    public HotTenantWarmer(BusinessHeatMap businessHeatMap,
+                           MenuSnapshotCache menuSnapshotCache,
+                           SubscriptionEntitlements subscriptionEntitlements,
+                           MenuSearchService menuSearchService,
+                           MenuService menuService,
+                           OrderRepository orderRepository,
+                           @Value("${menubyte.warmup.business-ids:}") List<Long> configuredBusinessIds,
+                           @Value("${menubyte.warmup.max-tenants:50}") int maxTenants,
+                           @Value("${menubyte.warmup.order-lookback-days:7}") int orderLookbackDays) {
+        this.businessHeatMap = businessHeatMap;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.subscriptionEntitlements = subscriptionEntitlements;
+        this.menuSearchService = menuSearchService;
+        this.menuService = menuService;
+        this.orderRepository = orderRepository;
+        this.configuredBusinessIds = configuredBusinessIds;
+        this.maxTenants = maxTenants;
+        this.orderLookbackDays = orderLookbackDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        Set<Long> businessIds = new LinkedHashSet<>(configuredBusinessIds);
+        try {
+            businessIds.addAll(orderRepository.findBusiestBusinessIds(
+                    LocalDateTime.now().minusDays(orderLookbackDays), PageRequest.of(0, maxTenants)));
+        } catch (RuntimeException e) {
+            log.warn("cache_warmup_order_history_unavailable", e);
+        }
+        warm("startup", businessIds);
+    }
+
+    @Scheduled(fixedDelayString = "${menubyte.warmup.refresh-ms:240000}", initialDelayString = "${menubyte.warmup.refresh-ms:240000}")
+    public void keepResident() {
+        warm("refresh", hotSet());
+    }
+
+    /** Ahead of lunch and dinner service by default. */
+    @Scheduled(cron = "${menubyte.warmup.service-hours-cron:0 45 10,18 * * *}")
+    public void warmBeforeServiceHours() {
+        warm("service_hours", hotSet());
+    }
+
+    private Set<Long> hotSet() {
+        Set<Long> businessIds = new LinkedHashSet<>(configuredBusinessIds);
+        businessIds.addAll(businessHeatMap.hottest(maxTenants));
+        return businessIds;
+    }
+
+    private void warm(String reason, Set<Long> businessIds) {
+        long startedAt = System.currentTimeMillis();
+        int loaded = 0;
+        int failed = 0;
+        for (Long businessId : businessIds) {
+            try {
+                subscriptionEntitlements.get(businessId);
+                if (!menuSnapshotCache.contains(businessId)) {
+                    menuSnapshotCache.get(businessId, () -> menuService.loadMenuSnapshot(businessId));
+                    loaded++;
+                }
+                menuSearchService.warm(businessId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.debug("cache_warmup_business_failed businessId={}", businessId, e);
+            }
+        }
+        if (loaded == 0 && failed == 0 && "refresh".equals(reason)) {
+            return;
+        }
+        log.info("cache_warmup_finished reason={} tenants={} snapshotsLoaded={} failed={} durationMs={}",
+                reason, businessIds.size(), loaded, failed, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,94 @@
+package com.menubyte.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Small size-bounded LRU map for hot lookups, reporting hits, misses and hit ratio as
+ * {@code menubyte.cache.lookups} / {@code menubyte.cache.hit.ratio} tagged with the cache name.
+ *
+ * <p>Access is synchronized; entries are expected to be tiny (IDs), so the lock is held only for the
+ * map operation, never for the loader.</p>
+ */
+public class LruCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // Bumped on every invalidation, so a load that raced one is not stored; guarded by this
+    private long generation;
+
+    public LruCache(String name, int maxEntries, MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        FunctionCounter.builder("menubyte.cache.lookups", hits, LongAdder::doubleValue)
+                .tags("cache", name, "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("menubyte.cache.lookups", misses, LongAdder::doubleValue)
+                .tags("cache", name, "result", "miss").register(meterRegistry);
+        Gauge.builder("menubyte.cache.hit.ratio", this, LruCache::hitRatio).tag("cache", name).register(meterRegistry);
+        Gauge.builder("menubyte.cache.size", this, LruCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value, or loads it. A {@code null} from the loader is returned but not cached,
+     * so "not found" is always re-checked.
+     */
+    public V get(K key, Function<K, V> loader) {
+        V value;
+        long loadGeneration;
+        synchronized (this) {
+            value = entries.get(key);
+            loadGeneration = generation;
+        }
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<V> predicate) {
+        generation++;
+        entries.values().removeIf(predicate);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public double hitRatio() {
+        double hitCount = hits.doubleValue();
+        double total = hitCount + misses.doubleValue();
+        return total == 0 ? 0 : hitCount / total;
+    }
+}
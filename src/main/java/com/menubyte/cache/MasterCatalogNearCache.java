@@ -0,0 +1,89 @@
+package com.menubyte.cache;
+
+import com.menubyte.event.MasterCatalogChangedEvent;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * Near cache of master catalog IDs used while creating items: master category ID by description and
+ * known master item IDs. Callers turn a hit into an entity reference without a query.
+ *
+ * <p>Only committed rows read from the database are cached, never rows just saved in the current
+ * transaction. Master category writes invalidate directly; master item writes and cascading deletes
+ * arrive as {@link MasterCatalogChangedEvent} after commit. Other nodes' writes arrive through
+ * {@link CacheInvalidationBus}.</p>
+ */
+@Slf4j
+@Component
+public class MasterCatalogNearCache {
+
+    private final LruCache<String, Long> masterCategoryIdsByDescription;
+    private final LruCache<Long, Boolean> masterItemIds;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public MasterCatalogNearCache(CacheInvalidationBus cacheInvalidationBus,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${menubyte.catalog-cache.max-entries:5000}") int maxEntries) {
+        this.masterCategoryIdsByDescription = new LruCache<>("master-category-id", maxEntries, meterRegistry);
+        this.masterItemIds = new LruCache<>("master-item-id", maxEntries, meterRegistry);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    /**
+     * Master category ID for an exact description; {@code loader} returns null when there is none.
+     * Keys are not case-folded because the underlying lookup and unique constraint are case-sensitive.
+     */
+    public Long masterCategoryId(String categoryDescription, Function<String, Long> loader) {
+        return masterCategoryIdsByDescription.get(categoryDescription, loader);
+    }
+
+    /** Whether the master item exists; {@code exists} is only called on a miss. */
+    public boolean masterItemExists(Long masterItemId, Function<Long, Boolean> exists) {
+        return masterItemIds.get(masterItemId, id -> Boolean.TRUE.equals(exists.apply(id)) ? Boolean.TRUE : null) != null;
+    }
+
+    public void invalidateMasterCategory(Long masterCategoryId) {
+        masterCategoryIdsByDescription.invalidateIf(masterCategoryId::equals);
+        cacheInvalidationBus.publish(CacheInvalidationBus.MASTER_CATEGORY_IDS, masterCategoryId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMasterCatalogChanged(MasterCatalogChangedEvent event) {
+        if (event.getMasterItemIds().isEmpty()) {
+            clear();
+            return;
+        }
+        event.getMasterItemIds().forEach(masterItemIds::invalidate);
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidationEvent event) {
+        if (CacheInvalidationBus.MASTER_ITEMS.equals(event.getCacheName())) {
+            if (event.isAllKeys()) {
+                clear();
+            } else {
+                masterItemIds.invalidate(event.keyAsId());
+            }
+        } else if (CacheInvalidationBus.MASTER_CATEGORY_IDS.equals(event.getCacheName())) {
+            if (event.isAllKeys()) {
+                masterCategoryIdsByDescription.invalidateAll();
+            } else {
+                masterCategoryIdsByDescription.invalidateIf(event.keyAsId()::equals);
+            }
+        }
+    }
+
+    // A master category was deleted together with its items, or this node missed remote messages
+    private void clear() {
+        masterCategoryIdsByDescription.invalidateAll();
+        masterItemIds.invalidateAll();
+        log.debug("master_catalog_near_cache_cleared");
+    }
+}
@@ -0,0 +1,172 @@
+package com.menubyte.cache;
+
+import com.menubyte.config.DataSourceWorkload;
+import com.menubyte.dto.CategoryDTO;
+import com.menubyte.dto.ItemDTO;
+import com.menubyte.dto.MenuDTO;
+import com.menubyte.event.ItemAvailabilityChangedEvent;
+import com.menubyte.event.MenuChangedEvent;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-business snapshot of the menu as returned by {@code GET /api/menus/{businessId}}, so repeated reads
+ * skip loading every item, category and variant.
+ *
+ * <p>Snapshots are treated as immutable: callers get a shallow copy they may customise, and availability
+ * changes replace the affected items copy-on-write. Any other menu change evicts the business's snapshot
+ * after commit, here and (through {@link CacheInvalidationBus}) on the other nodes. A TTL bounds staleness
+ * from writes that bypass the events. Loads always read the primary, even under {@code @ReplicaReads}: the
+ * miss right after an eviction would otherwise cache the pre-edit menu from a lagging replica for the
+ * whole TTL.</p>
+ */
+@Slf4j
+@Component
+public class MenuSnapshotCache {
+
+    private final Map<Long, Entry> snapshots = new ConcurrentHashMap<>();
+    // Bumped (under the snapshot's key lock) on every change, so a load that raced a change is not stored
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final long ttlMs;
+    private final Counter hits;
+    private final Counter misses;
+
+    public MenuSnapshotCache(MeterRegistry meterRegistry,
+                             @Value("${menubyte.menu-cache.ttl-ms:600000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+        this.hits = meterRegistry.counter("menubyte.menu.snapshot", "result", "hit");
+        this.misses = meterRegistry.counter("menubyte.menu.snapshot", "result", "miss");
+        meterRegistry.gaugeMapSize("menubyte.menu.snapshot.size", List.of(), snapshots);
+    }
+
+    /** Returns a copy of the cached snapshot, building it with {@code loader} when missing or expired. */
+    public MenuDTO get(Long businessId, Supplier<MenuDTO> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = snapshots.get(businessId);
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return copy(entry.menu);
+        }
+        misses.increment();
+        long generation = generations.getOrDefault(businessId, 0L);
+        MenuDTO menu = DataSourceWorkload.onPrimary(loader);
+        snapshots.compute(businessId, (key, current) ->
+                generations.getOrDefault(key, 0L) == generation ? new Entry(menu, now + ttlMs) : current);
+        return copy(menu);
+    }
+
+    /** Whether an unexpired snapshot is held, without counting a hit or miss. */
+    public boolean contains(Long businessId) {
+        Entry entry = snapshots.get(businessId);
+        return entry != null && entry.expiresAt > System.currentTimeMillis();
+    }
+
+    public void evict(Long businessId) {
+        snapshots.compute(businessId, (key, current) -> {
+            generations.merge(key, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    // First after commit, so listeners that reload the snapshot (e.g. menu search) never see the stale one
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        evict(event.getBusinessId());
+    }
+
+    /**
+     * Another node changed the menu. A snapshot already at or past the writer's content version is kept,
+     * but the generation is bumped either way, so a load that may have read pre-commit rows is not stored.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidationEvent event) {
+        if (!CacheInvalidationBus.MENU.equals(event.getCacheName())) {
+            return;
+        }
+        if (event.isAllKeys()) {
+            Set<Long> businessIds = new HashSet<>(snapshots.keySet());
+            businessIds.addAll(generations.keySet());
+            businessIds.forEach(this::evict);
+            return;
+        }
+        snapshots.compute(event.keyAsId(), (key, current) -> {
+            generations.merge(key, 1L, Long::sum);
+            boolean upToDate = current != null && event.getVersion() >= 0
+                    && current.menu.getContentVersion() >= event.getVersion();
+            return upToDate ? current : null;
+        });
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(ItemAvailabilityChangedEvent event) {
+        Set<Long> changed = new HashSet<>(event.getItemIds());
+        snapshots.compute(event.getBusinessId(), (businessId, entry) -> {
+            generations.merge(businessId, 1L, Long::sum);
+            if (entry == null) {
+                return null;
+            }
+            MenuDTO updated = copy(entry.menu);
+            updated.setContentVersion(event.getContentVersion());
+            List<CategoryDTO> categories = new ArrayList<>(entry.menu.getCategories().size());
+            for (CategoryDTO category : entry.menu.getCategories()) {
+                categories.add(withAvailability(category, changed, event.isAvailable()));
+            }
+            updated.setCategories(categories);
+            return new Entry(updated, entry.expiresAt);
+        });
+        log.debug("menu_snapshot_availability_applied businessId={} items={}", event.getBusinessId(), changed.size());
+    }
+
+    private static CategoryDTO withAvailability(CategoryDTO category, Set<Long> changed, boolean available) {
+        if (category.getItems() == null || category.getItems().stream().noneMatch(item -> changed.contains(item.getId()))) {
+            return category;
+        }
+        List<ItemDTO> items = new ArrayList<>(category.getItems().size());
+        for (ItemDTO item : category.getItems()) {
+            if (changed.contains(item.getId())) {
+                ItemDTO copy = new ItemDTO(item.getId(), item.getItemName(), item.getItemDiscount(), item.getItemImage(),
+                        item.getVegOrNonVeg(), item.isBestseller(), available, item.getItemDescription(),
+                        item.isDealOfTheDay(), item.getMasterItemId(), item.getVariants());
+                items.add(copy);
+            } else {
+                items.add(item);
+            }
+        }
+        return new CategoryDTO(category.getId(), category.getCategoryName(), category.getMasterCategoryId(), items);
+    }
+
+    /** Shallow copy: top-level fields may be changed per request, nested lists are shared and read-only. */
+    private static MenuDTO copy(MenuDTO menu) {
+        return new MenuDTO(menu.getId(), menu.getBusinessName(), menu.getCategories(), menu.getBusinessType(),
+                menu.getSubscriptionStatus(), menu.getUserType(), menu.getContentVersion());
+    }
+
+    private static final class Entry {
+        private final MenuDTO menu;
+        private final long expiresAt;
+
+        private Entry(MenuDTO menu, long expiresAt) {
+            this.menu = menu;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
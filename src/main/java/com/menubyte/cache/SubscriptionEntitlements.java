@@ -0,0 +1,151 @@
+package com.menubyte.cache;
+
+import com.menubyte.entity.BusinessMaster;
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.enums.SubscriptionType;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
+import com.menubyte.event.SubscriptionStatusChangedEvent;
+import com.menubyte.repository.BusinessMasterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-business subscription status, type and end date, so per-request subscription checks don't query
+ * {@code business_master}.
+ *
+ * <p>Subscription writes refresh the entry directly ({@link #refresh}) and bulk expiries evict it via
+ * {@link SubscriptionStatusChangedEvent}; both reach the other nodes through {@link CacheInvalidationBus},
+ * which evict their copy. The TTL bounds staleness from
+ * writes that bypass this component (e.g. SQL run by hand). Businesses without a subscription record
+ * are cached too.</p>
+ */
+@Slf4j
+@Component
+public class SubscriptionEntitlements {
+
+    private final BusinessMasterRepository businessMasterRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every write, so a load that raced a write is not stored
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final long ttlMs;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SubscriptionEntitlements(BusinessMasterRepository businessMasterRepository,
+                                    CacheInvalidationBus cacheInvalidationBus,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${menubyte.entitlements.ttl-ms:300000}") long ttlMs) {
+        this.businessMasterRepository = businessMasterRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.ttlMs = ttlMs;
+        this.hits = meterRegistry.counter("menubyte.entitlements.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("menubyte.entitlements.lookups", "result", "miss");
+        meterRegistry.gaugeMapSize("menubyte.entitlements.size", List.of(), entries);
+    }
+
+    public Entitlement get(Long businessId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(businessId);
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return entry.entitlement;
+        }
+        misses.increment();
+        long generation = generations.getOrDefault(businessId, 0L);
+        Entitlement entitlement = load(businessId);
+        entries.compute(businessId, (key, current) ->
+                generations.getOrDefault(key, 0L) == generation ? new Entry(entitlement, now + ttlMs) : current);
+        return entitlement;
+    }
+
+    /** Write-through after a subscription record was saved. */
+    public void refresh(BusinessMaster businessMaster) {
+        Long businessId = businessMaster.getBusiness().getId();
+        Entitlement entitlement = new Entitlement(businessId, businessMaster.getSubscriptionStatus(),
+                businessMaster.getSubscriptionType(), businessMaster.getEndDate());
+        entries.compute(businessId, (key, current) -> {
+            generations.merge(key, 1L, Long::sum);
+            return new Entry(entitlement, System.currentTimeMillis() + ttlMs);
+        });
+        cacheInvalidationBus.publish(CacheInvalidationBus.ENTITLEMENTS, businessId);
+        log.debug("entitlement_refreshed businessId={} status={} type={}", businessId,
+                entitlement.getStatus(), entitlement.getType());
+    }
+
+    public void evict(Long businessId) {
+        evictLocally(businessId);
+        cacheInvalidationBus.publish(CacheInvalidationBus.ENTITLEMENTS, businessId);
+    }
+
+    // The bus relays the event itself, so only the local copy is dropped here
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionStatusChanged(SubscriptionStatusChangedEvent event) {
+        event.getBusinessIds().forEach(this::evictLocally);
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidationEvent event) {
+        if (!CacheInvalidationBus.ENTITLEMENTS.equals(event.getCacheName())) {
+            return;
+        }
+        if (event.isAllKeys()) {
+            entries.keySet().forEach(this::evictLocally);
+        } else {
+            evictLocally(event.keyAsId());
+        }
+    }
+
+    private void evictLocally(Long businessId) {
+        entries.compute(businessId, (key, current) -> {
+            generations.merge(key, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    private Entitlement load(Long businessId) {
+        List<Object[]> rows = businessMasterRepository.findEntitlementByBusinessId(businessId);
+        if (rows.isEmpty()) {
+            return new Entitlement(businessId, null, null, null);
+        }
+        Object[] row = rows.get(0);
+        return new Entitlement(businessId, (SubscriptionStatus) row[0], (SubscriptionType) row[1], (LocalDate) row[2]);
+    }
+
+    /** Subscription state of one business; all fields but the ID are null when it has no subscription record. */
+    @Getter
+    @AllArgsConstructor
+    public static final class Entitlement {
+        private final Long businessId;
+        private final SubscriptionStatus status;
+        private final SubscriptionType type;
+        private final LocalDate endDate;
+
+        /** Only an explicit INACTIVE status blocks the business; a missing record counts as active. */
+        public boolean isInactive() {
+            return status == SubscriptionStatus.INACTIVE;
+        }
+    }
+
+    private static final class Entry {
+        private final Entitlement entitlement;
+        private final long expiresAt;
+
+        private Entry(Entitlement entitlement, long expiresAt) {
+            this.entitlement = entitlement;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.menubyte.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches for small, read-mostly reference data shared by all tenants.
+ * Evictions and puts made inside a transaction are applied only after it commits, so a reader can't
+ * re-cache data from a write that later rolls back.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Master categories per business type (see {@code MasterCategoryService}). */
+    public static final String MASTER_CATEGORIES = "masterCategories";
+
+    @Bean
+    public CacheManager cacheManager() {
+        // Naming the caches up front disables on-the-fly creation, so a mistyped cache name fails fast
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(MASTER_CATEGORIES);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
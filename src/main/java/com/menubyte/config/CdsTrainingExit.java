@@ -0,0 +1,24 @@
+package com.menubyte.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ends the AppCDS training run once the context is fully started.
+ * The JVM writes the class archive ({@code -XX:ArchiveClassesAtExit}) while exiting.
+ */
+@Component
+@Profile("cds-training")
+@Slf4j
+public class CdsTrainingExit {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitAfterStartup(ApplicationReadyEvent event) {
+        log.info("cds_training_complete exiting=true");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.menubyte.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Tags the request thread with its handler method, workload and {@link ReplicaReads} opt-in before any query
+ * runs, so connections are taken from the right pool and {@link ConnectionLeaseTracker} can name the
+ * controller method holding them.
+ */
+@Component
+public class ConnectionLeaseInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            boolean olap = AnnotatedElementUtils.hasAnnotation(handlerMethod.getMethod(), OlapWorkload.class)
+                    || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), OlapWorkload.class);
+            boolean replicaReads = AnnotatedElementUtils.hasAnnotation(handlerMethod.getMethod(), ReplicaReads.class)
+                    || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ReplicaReads.class);
+            DataSourceWorkload.set(olap ? DataSourceWorkload.Workload.OLAP : DataSourceWorkload.Workload.OLTP,
+                    handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName(),
+                    replicaReads);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DataSourceWorkload.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceWorkload.clear();
+    }
+}
@@ -0,0 +1,136 @@
+package com.menubyte.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Records who holds each pooled connection and for how long.
+ *
+ * <p>Every connection handed out by {@link WorkloadRoutingDataSource} is registered with its pool, owner
+ * (the controller method set by {@link ConnectionLeaseInterceptor}) and thread until it is closed.
+ * Hold times are recorded as {@code menubyte.datasource.connection.hold} per pool and owner. Leases held
+ * longer than {@code menubyte.datasource.lease-warn-ms} are logged once, naming the owner, which is what
+ * Hikari's own leak detection can't do from a stack trace taken inside the transaction infrastructure.</p>
+ */
+@Slf4j
+@Component
+public class ConnectionLeaseTracker {
+
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final long warnAfterMs;
+
+    public ConnectionLeaseTracker(MeterRegistry meterRegistry,
+                                  @Value("${menubyte.datasource.lease-warn-ms:10000}") long warnAfterMs) {
+        this.meterRegistry = meterRegistry;
+        this.warnAfterMs = warnAfterMs;
+        meterRegistry.gaugeMapSize("menubyte.datasource.connection.leases", List.of(), leases);
+    }
+
+    /** Returns {@code connection} wrapped so that closing it ends the lease. */
+    public Connection track(Connection connection, String pool) {
+        long id = sequence.incrementAndGet();
+        Lease lease = new Lease(pool, DataSourceWorkload.currentOwner(), Thread.currentThread().getName(),
+                System.currentTimeMillis());
+        leases.put(id, lease);
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        release(id);
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void release(long id) {
+        Lease lease = leases.remove(id);
+        if (lease == null) {
+            return;
+        }
+        long heldMs = System.currentTimeMillis() - lease.acquiredAt;
+        Timer.builder("menubyte.datasource.connection.hold")
+                .tag("pool", lease.pool)
+                .tag("owner", lease.owner)
+                .register(meterRegistry)
+                .record(heldMs, TimeUnit.MILLISECONDS);
+        if (lease.reported) {
+            log.info("connection_lease_released pool={} owner={} heldMs={}", lease.pool, lease.owner, heldMs);
+        }
+    }
+
+    /** Logs each lease once when it passes the warning threshold. */
+    @Scheduled(fixedDelayString = "${menubyte.datasource.lease-check-ms:5000}")
+    public void reportLongLeases() {
+        long now = System.currentTimeMillis();
+        for (Lease lease : leases.values()) {
+            if (!lease.reported && now - lease.acquiredAt > warnAfterMs) {
+                lease.reported = true;
+                log.warn("connection_lease_long_held pool={} owner={} thread={} heldMs={}",
+                        lease.pool, lease.owner, lease.thread, now - lease.acquiredAt);
+            }
+        }
+    }
+
+    /** Open leases, longest held first. */
+    public List<LeaseView> openLeases(int limit) {
+        long now = System.currentTimeMillis();
+        return leases.values().stream()
+                .sorted(Comparator.comparingLong(lease -> lease.acquiredAt))
+                .limit(limit)
+                .map(lease -> new LeaseView(lease.pool, lease.owner, lease.thread, now - lease.acquiredAt))
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class LeaseView {
+        private final String pool;
+        private final String owner;
+        private final String thread;
+        private final long heldMs;
+    }
+
+    private static final class Lease {
+        private final String pool;
+        private final String owner;
+        private final String thread;
+        private final long acquiredAt;
+        private volatile boolean reported;
+
+        private Lease(String pool, String owner, String thread, long acquiredAt) {
+            this.pool = pool;
+            this.owner = owner;
+            this.thread = thread;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.menubyte.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces Boot's single connection pool with one pool per workload, so checkout never waits behind a
+ * 30-day report for a connection:
+ * <ul>
+ *     <li>{@code oltp} (configured by {@code spring.datasource.*}): orders, payments, menu and item edits;</li>
+ *     <li>{@code olap} ({@code menubyte.datasource.olap.hikari.*}, same database): {@link OlapWorkload}
+ *     endpoints and batch jobs;</li>
+ *     <li>{@code replica} (opt-in, {@code menubyte.replica.*}): {@code @Transactional(readOnly = true)} work of
+ *     {@link ReplicaReads} endpoints while the replica is within {@code menubyte.replica.max-lag-ms}.</li>
+ * </ul>
+ * Each pool is a separate Hikari bean, so Boot's pool metrics ({@code hikaricp.connections.acquire},
+ * {@code .active}, {@code .pending}, {@code .timeout}) are reported per pool. Writes, Flyway and the cache
+ * bus's LISTEN connection never use the replica.
+ *
+ * <p>Open-session-in-view is off ({@code spring.jpa.open-in-view}), so each transaction takes its own
+ * connection: a read-only transaction that runs after a write in the same {@link ReplicaReads} request can
+ * land on the replica and miss that write.</p>
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("oltp");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("menubyte.datasource.olap.hikari")
+    public HikariDataSource olapDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("olap");
+        return dataSource;
+    }
+
+    /** The data source JPA, Spring Data and JdbcTemplate see. */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("oltpDataSource") DataSource oltpDataSource,
+                                 @Qualifier("olapDataSource") DataSource olapDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 ConnectionLeaseTracker connectionLeaseTracker,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new WorkloadRoutingDataSource(oltpDataSource, olapDataSource,
+                replicaDataSource.getIfAvailable(), replicaLagMonitor.getIfAvailable(), connectionLeaseTracker,
+                meterRegistry));
+    }
+
+    /** Opt-in read replica ({@code menubyte.replica.enabled=true}). */
+    @Configuration
+    @ConditionalOnProperty(name = "menubyte.replica.enabled", havingValue = "true")
+    static class ReplicaConfiguration {
+
+        @Bean
+        @ConfigurationProperties("menubyte.replica.hikari")
+        public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                                  @Value("${menubyte.replica.url}") String url,
+                                                  @Value("${menubyte.replica.username:${spring.datasource.username}}") String username,
+                                                  @Value("${menubyte.replica.password:${spring.datasource.password}}") String password) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            dataSource.setPoolName("replica");
+            dataSource.setReadOnly(true);
+            log.info("replica_datasource_configured url={}", url);
+            return dataSource;
+        }
+
+        @Bean
+        public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${menubyte.replica.max-lag-ms:5000}") long maxLagMs) {
+            return new ReplicaLagMonitor(replicaDataSource, meterRegistry, maxLagMs);
+        }
+    }
+}
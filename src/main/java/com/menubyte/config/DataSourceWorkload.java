@@ -0,0 +1,82 @@
+package com.menubyte.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Which pool the current thread's database work belongs to, whether it may read from the replica
+ * ({@link ReplicaReads}), and who to blame for the connections it holds.
+ * Set per request by {@link ConnectionLeaseInterceptor}; background jobs use {@link #run}.
+ */
+public final class DataSourceWorkload {
+
+    public enum Workload { OLTP, OLAP }
+
+    private static final ThreadLocal<DataSourceWorkload> CURRENT = new ThreadLocal<>();
+
+    private final Workload workload;
+    private final String owner;
+    private final boolean replicaReads;
+
+    private DataSourceWorkload(Workload workload, String owner, boolean replicaReads) {
+        this.workload = workload;
+        this.owner = owner;
+        this.replicaReads = replicaReads;
+    }
+
+    public static Workload currentWorkload() {
+        DataSourceWorkload current = CURRENT.get();
+        return current == null ? Workload.OLTP : current.workload;
+    }
+
+    /** Whether read-only transactions on this thread may use the replica; false outside {@link ReplicaReads} handlers. */
+    public static boolean replicaReadsAllowed() {
+        DataSourceWorkload current = CURRENT.get();
+        return current != null && current.replicaReads;
+    }
+
+    /** The handler method (e.g. {@code OrderController#getOrders}), or {@code background} outside requests. */
+    public static String currentOwner() {
+        DataSourceWorkload current = CURRENT.get();
+        return current == null ? "background" : current.owner;
+    }
+
+    static void set(Workload workload, String owner, boolean replicaReads) {
+        CURRENT.set(new DataSourceWorkload(workload, owner, replicaReads));
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs {@code task} with replica reads switched off, keeping the current workload and owner. For loads whose
+     * result outlives the request (caches), which must not capture data from before a just-committed write.
+     */
+    public static <T> T onPrimary(Supplier<T> task) {
+        DataSourceWorkload previous = CURRENT.get();
+        if (previous == null || !previous.replicaReads) {
+            return task.get();
+        }
+        set(previous.workload, previous.owner, false);
+        try {
+            return task.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /** Runs {@code task} on this thread as {@code workload}, attributing its connections to {@code owner}. */
+    public static void run(Workload workload, String owner, Runnable task) {
+        DataSourceWorkload previous = CURRENT.get();
+        set(workload, owner, false);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                clear();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
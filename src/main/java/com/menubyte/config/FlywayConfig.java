@@ -0,0 +1,24 @@
+package com.menubyte.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Flyway settings Boot has no {@code spring.flyway.*} property for.
+ */
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Flyway 9 holds its Postgres migration lock as a transaction-level advisory lock on a second connection.
+     * {@code CREATE INDEX CONCURRENTLY} (V7) waits for every open transaction to finish, including that one,
+     * so the migration would hang; a session-level lock keeps no transaction open.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywaySessionLevelLock() {
+        return configuration -> configuration.configuration(Map.of("flyway.postgresql.transactional.lock", "false"));
+    }
+}
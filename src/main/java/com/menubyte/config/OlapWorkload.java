@@ -0,0 +1,17 @@
+package com.menubyte.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller (or a single handler method) as analytics/reporting work, so its database access
+ * uses the OLAP pool instead of the OLTP pool that serves orders, payments and menu edits.
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OlapWorkload {
+}
@@ -0,0 +1,78 @@
+package com.menubyte.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how far the read replica is behind the primary and decides whether read-only transactions may use it.
+ *
+ * <p>Lag is the age of the last replayed transaction, or zero once everything received has been replayed
+ * (an idle primary would otherwise look like a lagging replica). A database that is not in recovery
+ * counts as current. Above {@code menubyte.replica.max-lag-ms}, or while the replica is unreachable,
+ * reads go to the primary until a later check succeeds.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+    // -1 while unknown or unreachable
+    private final AtomicLong lagMs = new AtomicLong(-1);
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, MeterRegistry meterRegistry, long maxLagMs) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.maxLagMs = maxLagMs;
+        meterRegistry.gauge("menubyte.datasource.replica.lag.ms", lagMs);
+        meterRegistry.gauge("menubyte.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${menubyte.replica.lag-check-ms:2000}")
+    public void check() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            long currentLagMs = lag == null ? 0 : lag.longValue();
+            lagMs.set(currentLagMs);
+            if (currentLagMs > maxLagMs) {
+                suspend("lag", currentLagMs);
+            } else if (!usable) {
+                usable = true;
+                log.info("replica_routing_resumed lagMs={}", currentLagMs);
+            }
+        } catch (DataAccessException e) {
+            lagMs.set(-1);
+            suspend("unreachable", -1);
+            log.debug("replica_lag_check_failed", e);
+        }
+    }
+
+    /** Called when the replica refused a connection; reads stay on the primary until the next good check. */
+    public void markUnavailable(SQLException cause) {
+        lagMs.set(-1);
+        suspend("connection_failed", -1);
+        log.debug("replica_connection_failed", cause);
+    }
+
+    private void suspend(String reason, long currentLagMs) {
+        if (usable) {
+            usable = false;
+            log.warn("replica_routing_suspended reason={} lagMs={} maxLagMs={}", reason, currentLagMs, maxLagMs);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.menubyte.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller (or a single handler method) whose read-only transactions may run on the read replica,
+ * i.e. whose results can be up to {@code menubyte.replica.max-lag-ms} old. Everything else, including
+ * Spring Data's implicitly read-only repository methods, reads from the primary.
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaReads {
+}
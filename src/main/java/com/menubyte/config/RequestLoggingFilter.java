@@ -1,5 +1,6 @@
 package com.menubyte.config;
 
+import com.menubyte.cache.BusinessHeatMap;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,11 +12,22 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 @Slf4j
 public class RequestLoggingFilter extends OncePerRequestFilter {
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    // Read endpoints keyed by business, counted for the hot-tenant cache warmer
+    private static final Pattern BUSINESS_READ_PATH =
+            Pattern.compile("^/api/(?:menus|items/by-business|orders/business|analytics/business)/(\\d{1,18})(?:/|$)");
+
+    private final BusinessHeatMap businessHeatMap;
+
+    public RequestLoggingFilter(BusinessHeatMap businessHeatMap) {
+        this.businessHeatMap = businessHeatMap;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -28,6 +40,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         long startedAt = System.currentTimeMillis();
         MDC.put("requestId", requestId);
         response.setHeader(REQUEST_ID_HEADER, requestId);
+        recordBusinessHeat(request);
         try {
             filterChain.doFilter(request, response);
         } finally {
@@ -37,4 +50,14 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             MDC.remove("requestId");
         }
     }
+
+    private void recordBusinessHeat(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return;
+        }
+        Matcher matcher = BUSINESS_READ_PATH.matcher(request.getRequestURI());
+        if (matcher.find()) {
+            businessHeatMap.record(Long.parseLong(matcher.group(1)));
+        }
+    }
 }
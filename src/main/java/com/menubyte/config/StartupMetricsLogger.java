@@ -0,0 +1,121 @@
+package com.menubyte.config;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Logs time-to-ready and memory footprint once, so cold starts can be compared across configurations.
+ * Also reports the slowest bean instantiations from the buffered startup timeline and the JVM flags
+ * that matter for AppCDS, so a slow boot can be attributed without attaching a profiler.
+ */
+@Component
+@Slf4j
+public class StartupMetricsLogger {
+    private static final Path PROC_STATUS = Paths.get("/proc/self/status");
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_BEANS = 10;
+
+    private final Environment environment;
+    private final ApplicationStartup applicationStartup;
+
+    public StartupMetricsLogger(Environment environment, ApplicationStartup applicationStartup) {
+        this.environment = environment;
+        this.applicationStartup = applicationStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupMetrics() {
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsedMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        log.info("startup_complete readyMs={} heapUsedMb={} rssMb={} forecastEnabled={} profiles={}",
+                uptimeMs, heapUsedMb, residentSetMb(), environment.getProperty("menubyte.forecast.enabled", "false"),
+                String.join(",", environment.getActiveProfiles()));
+        logJvmFlags();
+        logSlowestBeans();
+    }
+
+    /** Logs the flags that decide whether the class data sharing archive was actually used. */
+    private void logJvmFlags() {
+        List<String> inputArguments = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        String sharedArchiveFile = hotSpot == null ? "n/a" : vmOption(hotSpot, "SharedArchiveFile");
+        log.info("startup_jvm_flags sharedArchiveFile={} tieredStopAtLevel={} args={}",
+                sharedArchiveFile,
+                hotSpot == null ? "n/a" : vmOption(hotSpot, "TieredStopAtLevel"),
+                inputArguments);
+    }
+
+    private String vmOption(HotSpotDiagnosticMXBean hotSpot, String name) {
+        try {
+            String value = hotSpot.getVMOption(name).getValue();
+            return value.isEmpty() ? "none" : value;
+        } catch (IllegalArgumentException e) {
+            return "n/a";
+        }
+    }
+
+    /**
+     * Reads the buffered timeline without draining it, so {@code /actuator/startup} still returns
+     * the full report afterwards.
+     */
+    private void logSlowestBeans() {
+        if (!(applicationStartup instanceof BufferingApplicationStartup)) {
+            return;
+        }
+        StartupTimeline timeline = ((BufferingApplicationStartup) applicationStartup).getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> slowest = timeline.getEvents().stream()
+                .filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .collect(Collectors.toList());
+        for (StartupTimeline.TimelineEvent event : slowest) {
+            log.info("startup_slow_bean bean={} durationMs={}",
+                    beanName(event.getStartupStep()), event.getDuration().toMillis());
+        }
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "unknown";
+    }
+
+    /** Reads VmRSS on Linux; returns -1 elsewhere. */
+    private long residentSetMb() {
+        if (!Files.isReadable(PROC_STATUS)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (line.startsWith("VmRSS:")) {
+                    String kb = line.substring("VmRSS:".length()).replace("kB", "").trim();
+                    return Long.parseLong(kb) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Unable to read resident set size", e);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,71 @@
+package com.menubyte.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in virtual-thread mode ({@code menubyte.virtual-threads.enabled=true}).
+ * Servlet requests and {@code @Async} methods each run on their own virtual thread, so a request blocked on
+ * JDBC or the Razorpay API no longer holds one of Tomcat's 200 platform workers.
+ *
+ * <p>Virtual threads remove the thread cap but not the database's connection limit. The Hikari guard keeps
+ * the pool at {@code menubyte.datasource.max-pool-size}, so excess requests wait in Hikari's queue instead of
+ * opening more connections to Postgres. The OLTP pool's wait is cut to
+ * {@code menubyte.virtual-threads.connection-timeout-ms}, so a request that cannot get a connection fails fast
+ * rather than piling up behind the pool.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "menubyte.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /** Replaces Boot's pooled {@code applicationTaskExecutor}, which backs {@code @Async}. */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor hikariPoolGuard(Environment environment) {
+        int maxPoolSize = environment.getProperty("menubyte.datasource.max-pool-size", Integer.class, 10);
+        long oltpConnectionTimeoutMs = environment.getProperty("menubyte.virtual-threads.connection-timeout-ms",
+                Long.class, 5000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    if (dataSource.getMaximumPoolSize() > maxPoolSize) {
+                        log.warn("hikari_pool_capped pool={} requested={} max={}",
+                                beanName, dataSource.getMaximumPoolSize(), maxPoolSize);
+                        dataSource.setMaximumPoolSize(maxPoolSize);
+                    }
+                    // Runs after spring.datasource.hikari.* is bound, so this wins over that setting
+                    if ("oltpDataSource".equals(beanName)) {
+                        dataSource.setConnectionTimeout(oltpConnectionTimeoutMs);
+                    }
+                    log.info("virtual_threads_enabled pool={} maxPoolSize={} connectionTimeoutMs={}",
+                            beanName, dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -13,11 +13,30 @@ package com.menubyte.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ConnectionLeaseInterceptor connectionLeaseInterceptor;
+
+    public WebConfig(ConnectionLeaseInterceptor connectionLeaseInterceptor) {
+        this.connectionLeaseInterceptor = connectionLeaseInterceptor;
+    }
+
+    /**
+     * Registers interceptors.
+     * The connection lease interceptor picks the connection pool for each handler and names it as the owner
+     * of the connections it holds.
+     *
+     * @param registry the interceptor registry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(connectionLeaseInterceptor);
+    }
+
     /**
      * Configures CORS (Cross-Origin Resource Sharing) mappings.
      * This allows frontend applications running on different origins to communicate with the backend.
@@ -0,0 +1,78 @@
+package com.menubyte.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Picks the pool for each connection:
+ * <ol>
+ *     <li>read-only transactions of {@link ReplicaReads} handlers use the read replica, when one is configured
+ *     and {@link ReplicaLagMonitor} reports it usable. Other read-only transactions (including Spring Data's
+ *     default read-only repository methods) stay on the primary, since they may follow a write and expect
+ *     to see it;</li>
+ *     <li>otherwise {@link OlapWorkload} requests and jobs use the OLAP pool;</li>
+ *     <li>everything else (checkout, payments, menu edits) uses the OLTP pool.</li>
+ * </ol>
+ * A replica that refuses a connection is reported to the monitor and the caller falls through to the primary
+ * pools, so a replica outage never fails a request. Every connection is registered with
+ * {@link ConnectionLeaseTracker}.
+ *
+ * <p>The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}, which defers choosing a connection until the first statement.</p>
+ */
+public class WorkloadRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource oltp;
+    private final DataSource olap;
+    private final DataSource replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ConnectionLeaseTracker connectionLeaseTracker;
+    private final Counter routedToReplica;
+    private final Counter fellBackToPrimary;
+
+    /** {@code replica} and {@code replicaLagMonitor} are null when no replica is configured. */
+    public WorkloadRoutingDataSource(DataSource oltp, DataSource olap, DataSource replica,
+                                     ReplicaLagMonitor replicaLagMonitor,
+                                     ConnectionLeaseTracker connectionLeaseTracker,
+                                     MeterRegistry meterRegistry) {
+        this.oltp = oltp;
+        this.olap = olap;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.connectionLeaseTracker = connectionLeaseTracker;
+        this.routedToReplica = meterRegistry.counter("menubyte.datasource.read.routing", "target", "replica");
+        this.fellBackToPrimary = meterRegistry.counter("menubyte.datasource.read.routing", "target", "primary");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replica != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && DataSourceWorkload.replicaReadsAllowed()) {
+            if (replicaLagMonitor.isUsable()) {
+                try {
+                    Connection connection = replica.getConnection();
+                    routedToReplica.increment();
+                    return connectionLeaseTracker.track(connection, "replica");
+                } catch (SQLException e) {
+                    replicaLagMonitor.markUnavailable(e);
+                }
+            }
+            fellBackToPrimary.increment();
+        }
+        if (DataSourceWorkload.currentWorkload() == DataSourceWorkload.Workload.OLAP) {
+            return connectionLeaseTracker.track(olap.getConnection(), "olap");
+        }
+        return connectionLeaseTracker.track(oltp.getConnection(), "oltp");
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return oltp.getConnection(username, password);
+    }
+}
@@ -1,11 +1,16 @@
 package com.menubyte.controller;
 
+import com.menubyte.config.OlapWorkload;
+import com.menubyte.config.ReplicaReads;
 import com.menubyte.dto.AnalyticsResponseDTO;
+import com.menubyte.dto.SalesForecastDTO;
 import com.menubyte.service.AnalyticsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 
+@OlapWorkload
+@ReplicaReads
 @RestController
 @RequestMapping("/api/analytics")
 public class AnalyticsController {
@@ -25,4 +30,15 @@ public class AnalyticsController {
         AnalyticsResponseDTO response = analyticsService.getSalesAnalytics(businessId, period);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Serves the precomputed next-day forecast produced by the nightly batch.
+     * Returns 404 until the batch has forecast this business.
+     */
+    @GetMapping("/business/{businessId}/sales-forecast")
+    public ResponseEntity<SalesForecastDTO> getSalesForecast(@PathVariable Long businessId) {
+        return analyticsService.getSalesForecast(businessId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
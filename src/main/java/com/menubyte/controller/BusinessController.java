@@ -49,13 +49,13 @@ public class BusinessController {
      * @return ResponseEntity containing the created business.
      */
     @PostMapping("/create/user/{userId}") // Changed mapping to include userId as path variable
-    public ResponseEntity<Business> createBusiness(
+    public ResponseEntity<BusinessDTO> createBusiness(
             @PathVariable Long userId, // userId now comes from path
             @RequestBody Business business) { // Request body is the DTO
 
         // Pass the userId and DTO to the service
         Business createdBusiness = businessService.createBusiness(userId, business);
-        return ResponseEntity.ok(createdBusiness);
+        return ResponseEntity.ok(new BusinessDTO(createdBusiness));
     }
 
     /**
@@ -65,9 +65,9 @@ public class BusinessController {
      * @return ResponseEntity containing the business.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Business> getBusinessById(@PathVariable Long id) {
+    public ResponseEntity<BusinessDTO> getBusinessById(@PathVariable Long id) {
         Business business = businessService.getBusinessById(id);
-        return ResponseEntity.ok(business);
+        return ResponseEntity.ok(new BusinessDTO(business));
     }
 
     /**
@@ -89,14 +89,14 @@ public class BusinessController {
      * @return ResponseEntity containing the updated business.
      */
     @PutMapping("/{id}/user/{userId}") // Updated mapping to include userId as path variable
-    public ResponseEntity<Business> updateBusiness(
+    public ResponseEntity<BusinessDTO> updateBusiness(
             @PathVariable Long id,
             @PathVariable Long userId, // userId now comes from path
             @RequestBody Business businessReq) {
 
         // Pass the userId to the service for authorization check
         Business business = businessService.updateBusiness(id, businessReq);
-        return ResponseEntity.ok(business);
+        return ResponseEntity.ok(new BusinessDTO(business));
     }
 
 
@@ -1,10 +1,20 @@
 package com.menubyte.controller;
 
+import com.menubyte.config.OlapWorkload;
+import com.menubyte.config.ReplicaReads;
+import com.menubyte.dto.AdminBusinessPage;
+import com.menubyte.dto.BusinessMasterDTO;
 import com.menubyte.entity.BusinessMaster;
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.enums.SubscriptionType;
 import com.menubyte.service.BusinessMasterService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -14,6 +24,7 @@ import java.util.List;
  *
  * @author Ankit
  */
+@Lazy // Rarely used; created on first request instead of at startup
 @RestController
 @RequestMapping("/api/business-master")
 public class BusinessMasterController {
@@ -36,8 +47,8 @@ public class BusinessMasterController {
      * @return The registered business entity
      */
     @PostMapping("/register")
-    public ResponseEntity<BusinessMaster> registerBusiness(@RequestBody BusinessMaster businessMaster) {
-        BusinessMaster registeredBusiness = businessMasterService.registerBusiness(businessMaster);
+    public ResponseEntity<BusinessMasterDTO> registerBusiness(@RequestBody BusinessMaster businessMaster) {
+        BusinessMasterDTO registeredBusiness = businessMasterService.registerBusiness(businessMaster);
         return ResponseEntity.ok(registeredBusiness);
     }
 
@@ -47,11 +58,41 @@ public class BusinessMasterController {
      * @return List of all registered businesses
      */
     @GetMapping("/all")
-    public ResponseEntity<List<BusinessMaster>> getAllRegisteredBusinesses() {
-        List<BusinessMaster> businesses = businessMasterService.getAllRegisteredBusinesses();
+    public ResponseEntity<List<BusinessMasterDTO>> getAllRegisteredBusinesses() {
+        List<BusinessMasterDTO> businesses = businessMasterService.getAllRegisteredBusinesses();
         return ResponseEntity.ok(businesses);
     }
 
+    /**
+     * Paginated, sortable admin listing of registered businesses with their owners (Admin view).
+     * Unlike {@code /all}, each page is one JOIN query and rows carry no entity graphs.
+     *
+     * @param status    Optional subscription status filter
+     * @param type      Optional subscription type filter
+     * @param endFrom   Optional earliest subscription end date (YYYY-MM-DD, inclusive)
+     * @param endTo     Optional latest subscription end date (YYYY-MM-DD, inclusive)
+     * @param page      Zero-based page number
+     * @param size      Page size (max 200)
+     * @param sortBy    Sort property, e.g. endDate or businessName
+     * @param direction ASC or DESC
+     * @return The requested page plus subscription counts by plan
+     */
+    @OlapWorkload
+    @ReplicaReads
+    @GetMapping("/admin")
+    public ResponseEntity<AdminBusinessPage> getAdminBusinesses(
+            @RequestParam(required = false) SubscriptionStatus status,
+            @RequestParam(required = false) SubscriptionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "endDate") String sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        return ResponseEntity.ok(businessMasterService.getAdminBusinesses(status, type, endFrom, endTo,
+                page, size, sortBy, direction));
+    }
+
     /**
      * Retrieves all businesses registered by a specific user.
      *
@@ -59,8 +100,8 @@ public class BusinessMasterController {
      * @return List of businesses associated with the user
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<BusinessMaster>> getBusinessesByUser(@PathVariable Long userId) {
-        List<BusinessMaster> businesses = businessMasterService.getBusinessesByUser(userId);
+    public ResponseEntity<List<BusinessMasterDTO>> getBusinessesByUser(@PathVariable Long userId) {
+        List<BusinessMasterDTO> businesses = businessMasterService.getBusinessesByUser(userId);
         return ResponseEntity.ok(businesses);
     }
 
@@ -72,8 +113,8 @@ public class BusinessMasterController {
      * @return The updated business entity
      */
     @PutMapping("/{id}")
-    public ResponseEntity<BusinessMaster> updateSubscription(@PathVariable Long id, @RequestBody BusinessMaster updatedDetails) {
-        BusinessMaster updatedBusiness = businessMasterService.updateSubscription(id, updatedDetails);
+    public ResponseEntity<BusinessMasterDTO> updateSubscription(@PathVariable Long id, @RequestBody BusinessMaster updatedDetails) {
+        BusinessMasterDTO updatedBusiness = businessMasterService.updateSubscription(id, updatedDetails);
         return ResponseEntity.ok(updatedBusiness);
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.menubyte.controller;
+
+import com.menubyte.config.ConnectionLeaseTracker;
+import com.menubyte.dto.DbPoolReport;
+import com.menubyte.dto.DbPoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Admin view of the database connection pools (oltp, olap and, when enabled, replica).
+ */
+@Lazy // Rarely used; created on first request instead of at startup
+@RestController
+@RequestMapping("/api/admin/db-pools")
+public class DbPoolController {
+
+    private final List<HikariDataSource> pools;
+    private final ConnectionLeaseTracker connectionLeaseTracker;
+
+    public DbPoolController(List<HikariDataSource> pools, ConnectionLeaseTracker connectionLeaseTracker) {
+        this.pools = pools;
+        this.connectionLeaseTracker = connectionLeaseTracker;
+    }
+
+    /**
+     * Current pool usage and the open connections held longest, with the controller method holding each.
+     *
+     * @param leases Maximum number of open connections to list (max 100)
+     * @return Pool stats and open leases
+     */
+    @GetMapping
+    public ResponseEntity<DbPoolReport> getPools(@RequestParam(defaultValue = "20") int leases) {
+        List<DbPoolStats> stats = pools.stream().map(this::toStats).collect(Collectors.toList());
+        return ResponseEntity.ok(new DbPoolReport(stats,
+                connectionLeaseTracker.openLeases(Math.max(0, Math.min(leases, 100)))));
+    }
+
+    private DbPoolStats toStats(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return new DbPoolStats(dataSource.getPoolName(),
+                pool == null ? -1 : pool.getActiveConnections(),
+                pool == null ? -1 : pool.getIdleConnections(),
+                pool == null ? -1 : pool.getTotalConnections(),
+                pool == null ? -1 : pool.getThreadsAwaitingConnection(),
+                dataSource.getMaximumPoolSize(),
+                dataSource.getConnectionTimeout());
+    }
+}
@@ -2,11 +2,13 @@ package com.menubyte.controller;
 
 import com.menubyte.dto.*;
 import com.menubyte.entity.Category;
-import com.menubyte.entity.Item;
+import com.menubyte.entity.ItemImportJob;
 import com.menubyte.entity.MasterCategory;
 import com.menubyte.entity.MasterItem;
 import com.menubyte.service.CategoryService;
+import com.menubyte.service.ItemBulkImportService;
 import com.menubyte.service.ItemService;
+import com.menubyte.service.ItemStreamingImportService;
 import com.menubyte.service.MasterCategoryService;
 import com.menubyte.service.MasterItemService;
 import com.menubyte.service.MenuService;
@@ -16,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -34,15 +37,21 @@ public class ItemController {
     private final MenuService menuService;
     private final MasterItemService masterItemService;
     private final MasterCategoryService masterCategoryService;
+    private final ItemBulkImportService itemBulkImportService;
+    private final ItemStreamingImportService itemStreamingImportService;
 
     // Constructor injection for all services
     public ItemController(ItemService itemService, CategoryService categoryService, MenuService menuService,
-                          MasterItemService masterItemService, MasterCategoryService masterCategoryService) {
+                          MasterItemService masterItemService, MasterCategoryService masterCategoryService,
+                          ItemBulkImportService itemBulkImportService,
+                          ItemStreamingImportService itemStreamingImportService) {
         this.itemService = itemService;
         this.categoryService = categoryService;
         this.menuService = menuService;
         this.masterItemService = masterItemService;
         this.masterCategoryService = masterCategoryService;
+        this.itemBulkImportService = itemBulkImportService;
+        this.itemStreamingImportService = itemStreamingImportService;
     }
 
     /**
@@ -51,12 +60,12 @@ public class ItemController {
      *
      * @param businessId The ID of the business for which the item is being created.
      * @param request The DTO containing item details, category information (new or existing), and master item ID.
-     * @return ResponseEntity with the created Item object and HTTP status 201 (Created).
+     * @return ResponseEntity with the created item and HTTP status 201 (Created).
      * @throws ResponseStatusException if validation fails or entities are not found/conflict.
      */
     @PostMapping(value = "/{businessId}", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Item> createItem(@PathVariable Long businessId, @RequestBody ItemCreationRequest request) {
-        Item createdItem=itemService.createItemForBusiness(businessId,request);
+    public ResponseEntity<ItemDetailDTO> createItem(@PathVariable Long businessId, @RequestBody ItemCreationRequest request) {
+        ItemDetailDTO createdItem=itemService.createItemForBusiness(businessId,request);
         return new ResponseEntity<>(createdItem, HttpStatus.CREATED);
     }
 
@@ -67,8 +76,8 @@ public class ItemController {
      * @return ResponseEntity with a list of Items and HTTP status 200 (OK).
      */
     @GetMapping(value = "/by-business/{businessId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Item>> getItemsForBusiness(@PathVariable Long businessId) {
-        List<Item> items = itemService.getItemsForBusiness(businessId);
+    public ResponseEntity<List<ItemDetailDTO>> getItemsForBusiness(@PathVariable Long businessId) {
+        List<ItemDetailDTO> items = itemService.getItemsForBusiness(businessId);
         if (items.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
@@ -79,18 +88,17 @@ public class ItemController {
      * Retrieves a single item by its ID.
      *
      * @param itemId The ID of the item to retrieve.
-     * @return ResponseEntity with the found Item object and HTTP status 200 (OK).
+     * @return ResponseEntity with the found item and HTTP status 200 (OK).
      * @throws ResponseStatusException if the item is not found.
      */
     @GetMapping(value = "/{itemId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Item> getItemById(@PathVariable Long itemId) {
-        Item item = itemService.getItemById(itemId);
+    public ResponseEntity<ItemDetailDTO> getItemById(@PathVariable Long itemId) {
+        ItemDetailDTO item = itemService.getItemDetails(itemId);
         return ResponseEntity.ok(item);
     }
 
     @PutMapping(value = "/{itemId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Transactional
-    public ResponseEntity<Item> updateItem(@PathVariable Long itemId, @RequestBody ItemUpdateRequest request) {
+    public ResponseEntity<ItemDetailDTO> updateItem(@PathVariable Long itemId, @RequestBody ItemUpdateRequest request) {
         // Basic validation for the DTO
         if (request == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request body cannot be null.");
@@ -120,7 +128,7 @@ public class ItemController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Category ID must be provided for item update.");
         }
 
-        Item updated = itemService.updateItem(itemId, request);
+        ItemDetailDTO updated = itemService.updateItem(itemId, request);
         return ResponseEntity.ok(updated);
     }
     /**
@@ -139,29 +147,76 @@ public class ItemController {
     /**
      * Creates multiple new items for a specific business's menu in a single request.
      * The request body contains a list of ItemCreationRequest objects.
+     * All-or-nothing: if any row is invalid, nothing is created and 400 is returned.
      */
     @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
-    @Transactional
-    public ResponseEntity<List<Item>> createBulkItems(@RequestBody BulkItemCreationRequest request) {
-        List<Item> createdItems = itemService.createBulkItemsForBusiness(request.getBusinessId(), request.getItems());
+    public ResponseEntity<List<ItemDetailDTO>> createBulkItems(@RequestBody BulkItemCreationRequest request) {
+        List<ItemDetailDTO> createdItems = itemBulkImportService.createItems(request.getBusinessId(), request.getItems());
         return new ResponseEntity<>(createdItems, HttpStatus.CREATED);
     }
 
-    @PostMapping("/bulk-delete")
-    @Transactional
-    public ResponseEntity<Void> bulkDeleteItems(@RequestBody BulkDeleteRequest request) {
-        if (request.getItemIds() == null || request.getItemIds().isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item IDs list cannot be empty.");
-        }
+    /**
+     * Imports a large list of items (e.g. a whole menu). Valid rows are created; invalid rows are skipped
+     * and listed in the report with their row number and reason.
+     *
+     * @param request The business ID and the rows to import.
+     * @return ResponseEntity with the import report and HTTP status 200 (OK).
+     */
+    @PostMapping(value = "/bulk-import", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportReport> importBulkItems(@RequestBody BulkItemCreationRequest request) {
+        BulkImportReport report = itemBulkImportService.importItems(request.getBusinessId(), request.getItems());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Starts a streaming import from a CSV or JSON-lines file. The file is processed in the background and
+     * committed in chunks; poll {@code GET /api/items/import/{jobId}} for progress.
+     * To resume a failed import, upload the same file again with its {@code jobId}.
+     *
+     * @param businessId The ID of the business the items belong to.
+     * @param file The .csv or .jsonl file.
+     * @param jobId Optional ID of a failed import to resume.
+     * @return ResponseEntity with the import job and HTTP status 202 (Accepted).
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ItemImportJob> importItemsFromFile(@RequestParam Long businessId,
+                                                             @RequestParam("file") MultipartFile file,
+                                                             @RequestParam(required = false) Long jobId) {
+        ItemImportJob job = itemStreamingImportService.submitImport(businessId, file, jobId);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+    }
 
-        // You should add a service method to handle this logic.
-        // For example: itemService.bulkDeleteItem(request.getItemIds(), request.getBusinessId());
-        // For simplicity, here's a direct implementation that iterates and deletes:
+    /**
+     * Returns the progress and row errors of a streaming import.
+     *
+     * @param jobId The ID of the import job.
+     * @return ResponseEntity with the import job and HTTP status 200 (OK).
+     */
+    @GetMapping(value = "/import/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ItemImportJob> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(itemStreamingImportService.getJob(jobId));
+    }
 
-        for (Long itemId : request.getItemIds()) {
-            itemService.deleteItem(itemId);
-        }
+    /**
+     * Switches many items on or off at once (e.g. "out of paneer") without touching anything else.
+     *
+     * @param request The business ID, the item IDs and the new availability.
+     * @return ResponseEntity with the updated item IDs and the menu's new content version.
+     */
+    @PostMapping(value = "/availability", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ItemAvailabilityResponse> updateAvailability(@RequestBody ItemAvailabilityRequest request) {
+        ItemAvailabilityResponse response = itemService.updateAvailability(
+                request.getBusinessId(), request.getItemIds(), request.getAvailable());
+        return ResponseEntity.ok(response);
+    }
 
+    /**
+     * Deletes several items of a business in one request.
+     * All IDs must belong to the business; otherwise nothing is deleted and 404 is returned.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<Void> bulkDeleteItems(@RequestBody BulkDeleteRequest request) {
+        itemService.bulkDeleteItems(request.getBusinessId(), request.getItemIds());
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 }
\ No newline at end of file
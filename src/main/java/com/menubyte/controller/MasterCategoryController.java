@@ -6,18 +6,20 @@
  */
 package com.menubyte.controller;
 
+import com.menubyte.dto.MasterCategoryDTO;
 import com.menubyte.entity.MasterCategory;
 import com.menubyte.enums.BusinessType;
 import com.menubyte.service.MasterCategoryService;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for handling Master Category operations.
  */
+@Lazy // Rarely used; created on first request instead of at startup
 @RestController
 @RequestMapping("/api/master-categories")
 public class MasterCategoryController {
@@ -40,9 +42,9 @@ public class MasterCategoryController {
      * @return The created MasterCategory.
      */
     @PostMapping
-    public ResponseEntity<MasterCategory> createMasterCategory(@RequestBody MasterCategory masterCategory) {
+    public ResponseEntity<MasterCategoryDTO> createMasterCategory(@RequestBody MasterCategory masterCategory) {
         MasterCategory createdCategory = masterCategoryService.createMasterCategory(masterCategory);
-        return ResponseEntity.ok(createdCategory);
+        return ResponseEntity.ok(new MasterCategoryDTO(createdCategory));
     }
 
     /**
@@ -52,9 +54,9 @@ public class MasterCategoryController {
      * @return The requested MasterCategory.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MasterCategory> getMasterCategory(@PathVariable Long id) {
+    public ResponseEntity<MasterCategoryDTO> getMasterCategory(@PathVariable Long id) {
         MasterCategory category = masterCategoryService.getMasterCategoryById(id);
-        return ResponseEntity.ok(category);
+        return ResponseEntity.ok(new MasterCategoryDTO(category));
     }
 
     /**
@@ -65,9 +67,9 @@ public class MasterCategoryController {
      * @return The updated MasterCategory.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<MasterCategory> updateMasterCategory(@PathVariable Long id, @RequestBody MasterCategory updatedCategory) {
+    public ResponseEntity<MasterCategoryDTO> updateMasterCategory(@PathVariable Long id, @RequestBody MasterCategory updatedCategory) {
         MasterCategory category = masterCategoryService.updateMasterCategory(id, updatedCategory);
-        return ResponseEntity.ok(category);
+        return ResponseEntity.ok(new MasterCategoryDTO(category));
     }
 
     /**
@@ -83,24 +85,13 @@ public class MasterCategoryController {
     }
 
     /**
-     * Retrieves all Master Categories.
+     * Retrieves all Master Categories, optionally only those of one business type.
      *
-     * @return A list of all MasterCategories.
+     * @param businessType Optional business type filter.
+     * @return The matching MasterCategories, without their categories and items.
      */
     @GetMapping
-    public ResponseEntity<List<MasterCategory>> getAllMasterCategories(@RequestParam(required = false) BusinessType businessType) {
-        // Fetch ALL master categories first
-        List<MasterCategory> categories = masterCategoryService.getAllMasterCategories();
-
-        // Apply the filter in the application layer based on the request parameter
-        if (businessType != null) {
-            // Filter by the provided businessType
-            List<MasterCategory> filteredCategories = categories.stream()
-                    .filter(k -> k.getBusinessType() != null && k.getBusinessType().equals(businessType))
-                    .collect(Collectors.toUnmodifiableList());
-            return ResponseEntity.ok(filteredCategories);
-        } else {
-            // If no businessType parameter is provided, return all categories
-            return ResponseEntity.ok(categories);
-        }
-}}
\ No newline at end of file
+    public ResponseEntity<List<MasterCategoryDTO>> getAllMasterCategories(@RequestParam(required = false) BusinessType businessType) {
+        return ResponseEntity.ok(masterCategoryService.getMasterCategories(businessType));
+    }
+}
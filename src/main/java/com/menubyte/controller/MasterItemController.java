@@ -1,21 +1,29 @@
 package com.menubyte.controller;
 
+import com.menubyte.dto.MasterItemDTO;
+import com.menubyte.dto.MasterItemSuggestion;
 import com.menubyte.entity.MasterItem;
+import com.menubyte.enums.BusinessType;
+import com.menubyte.search.MasterItemAutocompleteService;
 import com.menubyte.service.MasterItemService;
 import org.springframework.http.HttpStatus; // Import HttpStatus for potential future use or explicit error responses
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/master-items")
 public class MasterItemController {
 
     private final MasterItemService masterItemService;
+    private final MasterItemAutocompleteService masterItemAutocompleteService;
 
-    public MasterItemController(MasterItemService masterItemService) {
+    public MasterItemController(MasterItemService masterItemService,
+                                MasterItemAutocompleteService masterItemAutocompleteService) {
         this.masterItemService = masterItemService;
+        this.masterItemAutocompleteService = masterItemAutocompleteService;
     }
 
     /**
@@ -24,9 +32,9 @@ public class MasterItemController {
      * @return The created MasterItem object.
      */
     @PostMapping
-    public ResponseEntity<MasterItem> createMasterItem(@RequestBody MasterItem masterItem) {
+    public ResponseEntity<MasterItemDTO> createMasterItem(@RequestBody MasterItem masterItem) {
         MasterItem createdItem = masterItemService.createMasterItem(masterItem);
-        return ResponseEntity.ok(createdItem);
+        return ResponseEntity.ok(new MasterItemDTO(createdItem));
     }
 
     /**
@@ -35,10 +43,27 @@ public class MasterItemController {
      * @return The corresponding MasterItem object.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MasterItem> getMasterItemById(@PathVariable Long id) { // Renamed for clarity to match service
+    public ResponseEntity<MasterItemDTO> getMasterItemById(@PathVariable Long id) { // Renamed for clarity to match service
         MasterItem masterItem = masterItemService.getMasterItemById(id)
                 .orElseThrow(() -> new RuntimeException("MasterItem not found with id " + id));
-        return ResponseEntity.ok(masterItem);
+        return ResponseEntity.ok(new MasterItemDTO(masterItem));
+    }
+
+    /**
+     * Suggests Master Items whose name has a word starting with the given text, most used first.
+     * @param q The text typed so far.
+     * @param masterCategoryId Optional master category filter.
+     * @param businessType Optional business type filter.
+     * @param limit Maximum number of suggestions.
+     * @return The matching suggestions.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<MasterItemSuggestion>> autocompleteMasterItems(
+            @RequestParam String q,
+            @RequestParam(required = false) Long masterCategoryId,
+            @RequestParam(required = false) BusinessType businessType,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(masterItemAutocompleteService.suggest(q, masterCategoryId, businessType, limit));
     }
 
     /**
@@ -47,10 +72,10 @@ public class MasterItemController {
      * @return The corresponding MasterItem object.
      */
     @GetMapping("/by-name/{itemName}") // Changed to path variable for cleaner URL, or keep as @RequestParam if preferred
-    public ResponseEntity<MasterItem> getMasterItemByName(@PathVariable String itemName) { // Renamed for clarity to match service
+    public ResponseEntity<MasterItemDTO> getMasterItemByName(@PathVariable String itemName) { // Renamed for clarity to match service
         MasterItem masterItem = masterItemService.getMasterItemByNameIgnoreCase(itemName) // Using IgnoreCase method
                 .orElseThrow(() -> new RuntimeException("MasterItem not found with name " + itemName));
-        return ResponseEntity.ok(masterItem);
+        return ResponseEntity.ok(new MasterItemDTO(masterItem));
     }
 
     /**
@@ -59,9 +84,9 @@ public class MasterItemController {
      * @return A list of MasterItem objects.
      */
     @GetMapping("/by-master-category/{masterCategoryId}")
-    public ResponseEntity<List<MasterItem>> getMasterItemsByMasterCategory(@PathVariable Long masterCategoryId) { // Renamed for clarity to match service
+    public ResponseEntity<List<MasterItemDTO>> getMasterItemsByMasterCategory(@PathVariable Long masterCategoryId) { // Renamed for clarity to match service
         List<MasterItem> masterItems = masterItemService.getMasterItemsByMasterCategoryId(masterCategoryId); // Using correct service method
-        return ResponseEntity.ok(masterItems);
+        return ResponseEntity.ok(toDtos(masterItems));
     }
 
     /**
@@ -71,9 +96,9 @@ public class MasterItemController {
      * @return The updated MasterItem object.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<MasterItem> updateMasterItem(@PathVariable Long id, @RequestBody MasterItem updatedItem) {
+    public ResponseEntity<MasterItemDTO> updateMasterItem(@PathVariable Long id, @RequestBody MasterItem updatedItem) {
         MasterItem item = masterItemService.updateMasterItem(id, updatedItem);
-        return ResponseEntity.ok(item);
+        return ResponseEntity.ok(new MasterItemDTO(item));
     }
 
     /**
@@ -92,8 +117,12 @@ public class MasterItemController {
      * @return A list of all MasterItem objects.
      */
     @GetMapping
-    public ResponseEntity<List<MasterItem>> getAllMasterItems() {
+    public ResponseEntity<List<MasterItemDTO>> getAllMasterItems() {
         List<MasterItem> items = masterItemService.getAllMasterItems();
-        return ResponseEntity.ok(items);
+        return ResponseEntity.ok(toDtos(items));
+    }
+
+    private static List<MasterItemDTO> toDtos(List<MasterItem> masterItems) {
+        return masterItems.stream().map(MasterItemDTO::new).collect(Collectors.toList());
     }
 }
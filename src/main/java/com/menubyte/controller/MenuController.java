@@ -6,18 +6,25 @@
  */
 package com.menubyte.controller;
 
+import com.menubyte.cache.MenuSnapshotCache;
+import com.menubyte.cache.SubscriptionEntitlements;
 import com.menubyte.dto.MenuDTO;
-import com.menubyte.entity.BusinessMaster;
-import com.menubyte.entity.Menu;
+import com.menubyte.dto.MenuPatchRequest;
+import com.menubyte.dto.MenuPatchResponse;
+import com.menubyte.dto.MenuSearchResponse;
 import com.menubyte.entity.User;
 import com.menubyte.enums.SubscriptionStatus;
 import com.menubyte.enums.UserType;
-import com.menubyte.service.BusinessMasterService;
+import com.menubyte.enums.VegNonVeg;
+import com.menubyte.event.MenuUpdateBroadcaster;
+import com.menubyte.search.MenuSearchService;
 import com.menubyte.service.MenuService;
 import com.menubyte.service.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -26,12 +33,20 @@ public class MenuController {
 
     private final MenuService menuService;
     private final UserService userService;
-    private final BusinessMasterService businessMasterService;
+    private final SubscriptionEntitlements subscriptionEntitlements;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final MenuUpdateBroadcaster menuUpdateBroadcaster;
+    private final MenuSearchService menuSearchService;
 
-    public MenuController(MenuService menuService, UserService userService, BusinessMasterService businessMasterService) {
+    public MenuController(MenuService menuService, UserService userService, SubscriptionEntitlements subscriptionEntitlements,
+                          MenuSnapshotCache menuSnapshotCache, MenuUpdateBroadcaster menuUpdateBroadcaster,
+                          MenuSearchService menuSearchService) {
         this.menuService = menuService;
         this.userService = userService;
-        this.businessMasterService = businessMasterService;
+        this.subscriptionEntitlements = subscriptionEntitlements;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.menuUpdateBroadcaster = menuUpdateBroadcaster;
+        this.menuSearchService = menuSearchService;
     }
 
     /**
@@ -44,12 +59,12 @@ public class MenuController {
     @GetMapping("/{businessId}")
     public ResponseEntity<MenuDTO> getMenuForUserBusiness(@PathVariable Long businessId, @RequestParam Long userId,@RequestParam String userType) {
         User user = userService.getUserById(userId);
-        Menu menu = menuService.getMenuForUserBusiness(businessId, user);
-        MenuDTO menuDTO = new MenuDTO(menu);
+        // Ownership check; the tree itself is built in loadMenuSnapshot's transaction on a cache miss
+        menuService.getMenuForUserBusiness(businessId, user);
+        MenuDTO menuDTO = menuSnapshotCache.get(businessId, () -> menuService.loadMenuSnapshot(businessId));
         if(!userType.equalsIgnoreCase(UserType.CUSTOMER.toString()))
        menuDTO.setUserType(user.getUserType());
-        BusinessMaster businessMaster = businessMasterService.getBusinessesByBusinessID(businessId);
-        if (null != businessMaster && businessMaster.getSubscriptionStatus().name().equalsIgnoreCase(String.valueOf(SubscriptionStatus.INACTIVE))) {
+        if (subscriptionEntitlements.get(businessId).isInactive()) {
             menuDTO.setSubscriptionStatus(SubscriptionStatus.INACTIVE);
         } else {
             menuDTO.setSubscriptionStatus(SubscriptionStatus.ACTIVE);
@@ -61,6 +76,36 @@ public class MenuController {
 
     }
 
+    /**
+     * Opens a server-sent event stream of changes to the business's menu
+     * ({@code availability} and {@code menu-changed} events).
+     * @param businessId The ID of the business.
+     * @return The event stream.
+     */
+    @GetMapping(value = "/{businessId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMenuUpdates(@PathVariable Long businessId) {
+        return menuUpdateBroadcaster.subscribe(businessId);
+    }
+
+    /**
+     * Searches the business's menu by item name, category and description, tolerating small typos.
+     * @param businessId The ID of the business.
+     * @param q The search text; every word must match.
+     * @param veg Optional VEG / NON_VEG filter.
+     * @param available Optional availability filter.
+     * @param limit Maximum number of results.
+     * @return Matching items, best first.
+     */
+    @GetMapping("/{businessId}/search")
+    public ResponseEntity<MenuSearchResponse> searchMenu(
+            @PathVariable Long businessId,
+            @RequestParam String q,
+            @RequestParam(required = false) VegNonVeg veg,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(menuSearchService.search(businessId, q, veg, available, limit));
+    }
+
     /**
      * Updates the items of a menu for a specific business.
      * @param businessId The ID of the business.
@@ -75,8 +120,24 @@ public class MenuController {
             @RequestBody MenuDTO updatedMenu) {
         log.info("menu_update_requested businessId={} userId={}", businessId, userId);
         User user = userService.getUserById(userId);
-        Menu updatedMenuEntity = menuService.updateMenuItems(businessId, user, updatedMenu);
-        return ResponseEntity.ok(new MenuDTO(updatedMenuEntity));
+        return ResponseEntity.ok(menuService.updateMenuItems(businessId, user, updatedMenu));
+    }
+
+    /**
+     * Applies only the changed fields of the given items, e.g. toggling availability on many items.
+     * @param businessId The ID of the business.
+     * @param userId The ID of the logged-in user.
+     * @param patch The changed items and, optionally, the content version the editor started from.
+     * @return The menu's new content version; the full menu is not rebuilt.
+     */
+    @PatchMapping("/{businessId}")
+    public ResponseEntity<MenuPatchResponse> patchMenuItems(
+            @PathVariable Long businessId,
+            @RequestParam Long userId,
+            @RequestBody MenuPatchRequest patch) {
+        log.info("menu_patch_requested businessId={} userId={}", businessId, userId);
+        User user = userService.getUserById(userId);
+        return ResponseEntity.ok(menuService.patchMenuItems(businessId, user, patch));
     }
 
 
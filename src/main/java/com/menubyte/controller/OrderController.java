@@ -1,6 +1,8 @@
 package com.menubyte.controller;
 
-import com.menubyte.entity.Order;
+import com.menubyte.config.OlapWorkload;
+import com.menubyte.config.ReplicaReads;
+import com.menubyte.dto.OrderDTO;
 import com.menubyte.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
@@ -26,14 +28,20 @@ public class OrderController {
     }
 
     @GetMapping("/business/{businessId}")
-    public ResponseEntity<List<Order>> getOrdersByBusinessId(@PathVariable Long businessId) {
-        List<Order> orders = orderService.getOrdersByBusinessId(businessId);
+    public ResponseEntity<List<OrderDTO>> getOrdersByBusinessId(@PathVariable Long businessId) {
+        List<OrderDTO> orders = orderService.getOrdersByBusinessId(businessId);
         return ResponseEntity.ok(orders);
     }
 
     @GetMapping("/business/{businessId}/today")
-    public ResponseEntity<List<Order>> getTodaysOrdersByBusinessId(@PathVariable Long businessId) {
-        List<Order> orders = orderService.getTodaysOrdersByBusinessId(businessId);
+    public ResponseEntity<List<OrderDTO>> getTodaysOrdersByBusinessId(@PathVariable Long businessId) {
+        List<OrderDTO> orders = orderService.getTodaysOrdersByBusinessId(businessId);
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/business/{businessId}/today/pending")
+    public ResponseEntity<List<OrderDTO>> getTodaysPendingOrdersByBusinessId(@PathVariable Long businessId) {
+        List<OrderDTO> orders = orderService.getTodaysPendingOrdersByBusinessId(businessId);
         return ResponseEntity.ok(orders);
     }
 
@@ -50,8 +58,8 @@ public class OrderController {
      * @return A ResponseEntity with the order if found, or a 404 Not Found status.
      */
     @GetMapping("/{orderId}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long orderId) {
-        Optional<Order> order = orderService.getOrderById(orderId);
+    public ResponseEntity<OrderDTO> getOrderById(@PathVariable Long orderId) {
+        Optional<OrderDTO> order = orderService.getOrderById(orderId);
         return order.map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -64,6 +72,8 @@ public class OrderController {
      * @param endDate    The end date of the report range (YYYY-MM-DD).
      * @return A ResponseEntity containing the PDF file as a byte array.
      */
+    @OlapWorkload
+    @ReplicaReads
     @GetMapping("/business/{businessId}/report")
     public ResponseEntity<byte[]> generateSalesReport(@PathVariable Long businessId,
                                                       @RequestParam("startDate") String startDate,
@@ -81,7 +91,7 @@ public class OrderController {
         return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
     }
     @PutMapping("/{orderId}/status")
-    public ResponseEntity<Order> updateOrderStatus(
+    public ResponseEntity<OrderDTO> updateOrderStatus(
             @PathVariable Long orderId,
             @RequestBody Map<String, String> payload) {
 
@@ -95,7 +105,7 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
     @PutMapping("/{orderId}/payment-status")
-    public ResponseEntity<Order> updatePaymentStatus(
+    public ResponseEntity<OrderDTO> updatePaymentStatus(
             @PathVariable Long orderId,
             @RequestBody Map<String,String> payload){
 
@@ -113,6 +123,8 @@ public class OrderController {
      * @param businessId The ID of the business.
      * @return A list of top-selling items wrapped in TopSellingItemDTO.
      */
+    @OlapWorkload
+    @ReplicaReads
     @GetMapping("/business/{businessId}/top-items")
     public ResponseEntity<List<com.menubyte.dto.TopSellingItemDTO>> getTopSellingItems(@PathVariable Long businessId) {
         // Set the analysis range for the last 30 days
@@ -1,4 +1,5 @@
 package com.menubyte.controller;
+import com.menubyte.cache.SubscriptionEntitlements;
 import com.menubyte.dto.PaymentRequest;
 import com.menubyte.dto.PaymentVerificationRequest;
 import com.menubyte.entity.BusinessMaster;
@@ -29,6 +30,8 @@ public class PaymentController {
     BusinessMasterRepository businessMasterRepository;
     @Autowired
     OrderRepository orderRepository;
+    @Autowired
+    SubscriptionEntitlements subscriptionEntitlements;
     @PostMapping("/create-order")
     public String createOrder(@RequestBody PaymentRequest request) throws RazorpayException {
         RazorpayClient razorpay = new RazorpayClient("rzp_test_jI5D0vXwBG7OpO", "wwlqWH1r0KWz0p3MC0p9ncwa");
@@ -75,7 +78,7 @@ public class PaymentController {
                 businessOptional.setSubscriptionType(SubscriptionType.valueOf(planType));
                 businessOptional.setEndDate(businessOptional.getEndDate().plusMonths(Long.valueOf(tenureInMonths)));
                 businessOptional.setAmountPaid(Double.parseDouble(data.get("amountPaid")));
-                businessMasterRepository.save(businessOptional);
+                subscriptionEntitlements.refresh(businessMasterRepository.save(businessOptional));
                 log.info("subscription_payment_verified razorpayOrderId={}", orderId);
                 return new ResponseEntity<>(Map.of("status", "success"), HttpStatus.OK);
             } else {
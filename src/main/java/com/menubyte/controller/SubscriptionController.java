@@ -1,9 +1,10 @@
 package com.menubyte.controller;
 
-import com.menubyte.entity.BusinessMaster;
+import com.menubyte.dto.BusinessMasterDTO;
 import com.menubyte.repository.BusinessMasterRepository;
 import com.menubyte.service.BusinessMasterService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,6 +19,7 @@ import java.util.List;
  *
  * @author Ankit
  */
+@Lazy // Rarely used; created on first request instead of at startup
 @RestController
 @RequestMapping("/api/subscriptions")
 public class SubscriptionController {
@@ -42,8 +44,8 @@ public class SubscriptionController {
      * @return A list of subscription records associated with the user
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<BusinessMaster>> getSubscriptionsByUser(@PathVariable Long userId) {
-        List<BusinessMaster> subscriptions = businessMasterService.getBusinessesByUser(userId);
+    public ResponseEntity<List<BusinessMasterDTO>> getSubscriptionsByUser(@PathVariable Long userId) {
+        List<BusinessMasterDTO> subscriptions = businessMasterService.getBusinessesByUser(userId);
         return ResponseEntity.ok(subscriptions);
     }
 }
\ No newline at end of file
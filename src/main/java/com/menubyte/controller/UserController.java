@@ -6,6 +6,7 @@
  */
 package com.menubyte.controller;
 
+import com.menubyte.dto.UserDTO;
 import com.menubyte.entity.User;
 import com.menubyte.exception.UserAlreadyExistsException;
 import com.menubyte.service.UserService;
@@ -33,7 +34,7 @@ public class UserController {
      */
     @PostMapping("/signup")
     public ResponseEntity<?> userSignup(@RequestBody User user) {
-            User createdUser = userService.createUser(user);
+            UserDTO createdUser = userService.createUser(user);
             return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
 
         }
@@ -45,8 +46,8 @@ public class UserController {
      * @return The updated User object.
      */
     @PutMapping("/update/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
-        User user = userService.updateUser(id, updatedUser);
+    public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
+        UserDTO user = userService.updateUser(id, updatedUser);
         return ResponseEntity.ok(user);
     }
 
@@ -67,8 +68,8 @@ public class UserController {
      * @return The retrieved User object.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        User user = userService.getUserById(id);
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
+        UserDTO user = userService.getUserDetails(id);
         return ResponseEntity.ok(user);
     }
 
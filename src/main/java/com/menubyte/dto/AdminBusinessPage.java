@@ -0,0 +1,24 @@
+package com.menubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of the admin business listing plus counts over all tenants, keyed by
+ * subscription type and then by subscription status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminBusinessPage {
+    private List<AdminBusinessRow> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private Map<String, Map<String, Long>> countsByPlan;
+}
@@ -0,0 +1,32 @@
+package com.menubyte.dto;
+
+import com.menubyte.enums.BusinessType;
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.enums.SubscriptionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the admin business listing, read with a single JOIN projection.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminBusinessRow {
+    private Long businessMasterId;
+    private Long businessId;
+    private String businessName;
+    private BusinessType businessType;
+    private Long userId;
+    private String username;
+    private String email;
+    private String mobileNumber;
+    private SubscriptionStatus subscriptionStatus;
+    private SubscriptionType subscriptionType;
+    private LocalDate registerDate;
+    private LocalDate endDate;
+    private double amountPaid;
+}
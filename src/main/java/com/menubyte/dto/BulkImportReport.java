@@ -0,0 +1,38 @@
+package com.menubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk item import: what was created and, per rejected row, why.
+ * Row numbers are 1-based positions in the submitted list.
+ */
+@Data
+public class BulkImportReport {
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private int createdCategories;
+    private int createdMasterCategories;
+    private int createdMasterItems;
+    private long durationMs;
+    private List<Long> createdItemIds = new ArrayList<>();
+    private List<RowError> errors = new ArrayList<>();
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private int row;
+        private String itemName;
+        private String message;
+    }
+}
@@ -1,5 +1,6 @@
 package com.menubyte.dto;
 
+import com.menubyte.entity.Business;
 import com.menubyte.enums.BusinessType;
 import lombok.*;
 
@@ -14,5 +15,10 @@ public class BusinessDTO {
     private String businessLogo;
     private String tagline;
     private BusinessType businessType;
+
+    public BusinessDTO(Business business) {
+        this(business.getId(), business.getBusinessName(), business.getBusinessLogo(), business.getTagline(),
+                business.getBusinessType());
+    }
 }
 
@@ -0,0 +1,39 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.BusinessMaster;
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.enums.SubscriptionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Subscription record with its owner and business. Build it from records loaded with
+ * {@code BusinessMasterRepository.findAllWithUserAndBusiness} (or another query that fetches both).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessMasterDTO {
+    private Long id;
+    private LocalDate registerDate;
+    private LocalDate endDate;
+    private double amountPaid;
+    private SubscriptionStatus subscriptionStatus;
+    private SubscriptionType subscriptionType;
+    private UserDTO user;
+    private BusinessDTO business;
+
+    public BusinessMasterDTO(BusinessMaster businessMaster) {
+        this.id = businessMaster.getId();
+        this.registerDate = businessMaster.getRegisterDate();
+        this.endDate = businessMaster.getEndDate();
+        this.amountPaid = businessMaster.getAmountPaid();
+        this.subscriptionStatus = businessMaster.getSubscriptionStatus();
+        this.subscriptionType = businessMaster.getSubscriptionType();
+        this.user = businessMaster.getUser() != null ? new UserDTO(businessMaster.getUser()) : null;
+        this.business = businessMaster.getBusiness() != null ? new BusinessDTO(businessMaster.getBusiness()) : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.menubyte.dto;
+
+import com.menubyte.config.ConnectionLeaseTracker;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Connection pool state plus the longest-held open connections and the controller methods holding them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DbPoolReport {
+    private List<DbPoolStats> pools;
+    private List<ConnectionLeaseTracker.LeaseView> openLeases;
+}
@@ -0,0 +1,21 @@
+package com.menubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Point-in-time state of one connection pool. Counts are -1 until the pool has opened its first connection.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DbPoolStats {
+    private String pool;
+    private int active;
+    private int idle;
+    private int total;
+    private int threadsAwaitingConnection;
+    private int maximumPoolSize;
+    private long connectionTimeoutMs;
+}
@@ -0,0 +1,14 @@
+package com.menubyte.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ItemAvailabilityRequest {
+    private Long businessId;
+    private List<Long> itemIds;
+    private Boolean available;
+}
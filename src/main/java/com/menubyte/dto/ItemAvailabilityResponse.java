@@ -0,0 +1,16 @@
+package com.menubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemAvailabilityResponse {
+    private List<Long> updatedItemIds;
+    private boolean available;
+    private long contentVersion;
+}
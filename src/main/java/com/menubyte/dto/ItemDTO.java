@@ -48,7 +48,7 @@ public class ItemDTO {
         // ADD THIS: Populate the variants list from the entity
         if (item.getVariants() != null) {
             this.variants = item.getVariants().stream()
-                    .map(variant -> new ItemVariantDto(variant.getVariantName(), variant.getPrice()))
+                    .map(variant -> new ItemVariantDto(variant.getId(), variant.getVariantName(), variant.getPrice()))
                     .collect(Collectors.toList());
         }
     }
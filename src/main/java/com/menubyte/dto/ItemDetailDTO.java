@@ -0,0 +1,55 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.Item;
+import com.menubyte.enums.VegNonVeg;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Item as returned by the item management endpoints: unlike {@link ItemDTO} it carries the master item and
+ * audit dates. Build it where the variants and master item are loaded (see
+ * {@code ItemRepository.findDetailsByBusinessId}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemDetailDTO {
+    private Long id;
+    private String itemName;
+    private String itemDescription;
+    private double itemDiscount;
+    private String itemImage;
+    private VegNonVeg vegOrNonVeg;
+    private boolean itemAvailability;
+    private boolean bestseller;
+    private boolean dealOfTheDay;
+    private MasterItemDTO masterItem;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+    private List<ItemVariantDto> variants;
+
+    public ItemDetailDTO(Item item) {
+        this.id = item.getId();
+        this.itemName = item.getItemName();
+        this.itemDescription = item.getItemDescription();
+        this.itemDiscount = item.getItemDiscount();
+        this.itemImage = item.getItemImage();
+        this.vegOrNonVeg = item.getVegOrNonVeg();
+        this.itemAvailability = item.isItemAvailability();
+        this.bestseller = item.isBestseller();
+        this.dealOfTheDay = item.isDealOfTheDay();
+        this.masterItem = item.getMasterItem() != null ? new MasterItemDTO(item.getMasterItem()) : null;
+        this.createdDate = item.getCreatedDate();
+        this.updatedDate = item.getUpdatedDate();
+        if (item.getVariants() != null) {
+            this.variants = item.getVariants().stream()
+                    .map(variant -> new ItemVariantDto(variant.getId(), variant.getVariantName(), variant.getPrice()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -9,6 +9,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 
 public class ItemVariantDto {
+    // Optional on updates: matches the existing variant even if it is renamed
+    private Long id;
     private String variantName;
     private Double price;
-}
\ No newline at end of file
+
+    public ItemVariantDto(String variantName, Double price) {
+        this(null, variantName, price);
+    }
+}
@@ -0,0 +1,24 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.MasterCategory;
+import com.menubyte.enums.BusinessType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Master category without its {@code categories} and {@code masterItems} collections, so listing the
+ * catalog never touches merchant data.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterCategoryDTO {
+    private Long id;
+    private String categoryDescription;
+    private BusinessType businessType;
+
+    public MasterCategoryDTO(MasterCategory masterCategory) {
+        this(masterCategory.getId(), masterCategory.getCategoryDescription(), masterCategory.getBusinessType());
+    }
+}
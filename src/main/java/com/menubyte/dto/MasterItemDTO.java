@@ -0,0 +1,25 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.MasterItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterItemDTO {
+    private Long id;
+    private String itemName;
+    private String itemDescription;
+    private double itemPrice;
+    private String itemImage;
+
+    public MasterItemDTO(MasterItem masterItem) {
+        this.id = masterItem.getId();
+        this.itemName = masterItem.getItemName();
+        this.itemDescription = masterItem.getItemDescription();
+        this.itemPrice = masterItem.getItemPrice();
+        this.itemImage = masterItem.getItemImage();
+    }
+}
@@ -0,0 +1,17 @@
+package com.menubyte.dto;
+
+import com.menubyte.enums.BusinessType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterItemSuggestion {
+    private Long id;
+    private String itemName;
+    private Long masterCategoryId;
+    private BusinessType businessType;
+    private long usageCount;
+}
@@ -25,9 +25,12 @@ public class MenuDTO {
     private com.menubyte.enums.SubscriptionStatus subscriptionStatus;
     @Enumerated(EnumType.STRING)
     private com.menubyte.enums.UserType userType;
+    // Send back as expectedVersion in PATCH /api/menus/{businessId}
+    private long contentVersion;
 
     public MenuDTO(Menu menu) {
         this.id = menu.getId();
+        this.contentVersion = menu.getContentVersion();
         this.businessName = menu.getBusiness().getBusinessName();
 
         // Group items by category, then sort the categories and their items
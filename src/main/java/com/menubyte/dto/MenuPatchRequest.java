@@ -0,0 +1,34 @@
+package com.menubyte.dto;
+
+import com.menubyte.enums.VegNonVeg;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Partial menu update: only the items and fields that changed.
+ * A {@code null} field means "leave unchanged".
+ */
+@Data
+@NoArgsConstructor
+public class MenuPatchRequest {
+    // Optional: content version the editor started from; the patch is rejected if the menu changed since
+    private Long expectedVersion;
+    private List<ItemPatch> items;
+
+    @Data
+    @NoArgsConstructor
+    public static class ItemPatch {
+        private Long id;
+        private String itemName;
+        private String itemDescription;
+        private Double itemDiscount;
+        private String itemImage;
+        private VegNonVeg vegOrNonVeg;
+        private Boolean itemAvailability;
+        private Boolean bestseller;
+        private Boolean dealOfTheDay;
+        private Long categoryId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.menubyte.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuPatchResponse {
+    private Long menuId;
+    private long contentVersion;
+    private int updatedItems;
+}
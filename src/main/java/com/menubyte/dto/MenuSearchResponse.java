@@ -0,0 +1,19 @@
+package com.menubyte.dto;
+
+import com.menubyte.search.MenuSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuSearchResponse {
+    private Long businessId;
+    private String query;
+    private int total;
+    private long tookMicros;
+    private List<MenuSearchIndex.Hit> results;
+}
@@ -0,0 +1,55 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.Order;
+import com.menubyte.enums.OrderStatus;
+import com.menubyte.enums.PaymentMode;
+import com.menubyte.enums.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Order with its lines. Build it from orders loaded with {@code OrderRepository.findWithItemsByBusinessId}
+ * (or another query that fetches {@code orderItems}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDTO {
+    private Long id;
+    private String razorpayOrderId;
+    private String razorpayPaymentId;
+    private Long businessId;
+    private Long userId;
+    private BigDecimal totalAmount;
+    private OrderStatus orderStatus;
+    private PaymentStatus paymentStatus;
+    private LocalDateTime createdAt;
+    private List<OrderItemDTO> orderItems;
+    private PaymentMode paymentMode;
+    private String tableNumber;
+    private String orderNote;
+
+    public OrderDTO(Order order) {
+        this.id = order.getId();
+        this.razorpayOrderId = order.getRazorpayOrderId();
+        this.razorpayPaymentId = order.getRazorpayPaymentId();
+        this.businessId = order.getBusinessId();
+        this.userId = order.getUserId();
+        this.totalAmount = order.getTotalAmount();
+        this.orderStatus = order.getOrderStatus();
+        this.paymentStatus = order.getPaymentStatus();
+        this.createdAt = order.getCreatedAt();
+        if (order.getOrderItems() != null) {
+            this.orderItems = order.getOrderItems().stream().map(OrderItemDTO::new).collect(Collectors.toList());
+        }
+        this.paymentMode = order.getPaymentMode();
+        this.tableNumber = order.getTableNumber();
+        this.orderNote = order.getOrderNote();
+    }
+}
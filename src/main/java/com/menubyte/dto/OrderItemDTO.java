@@ -0,0 +1,29 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.OrderItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemDTO {
+    private Long id;
+    private Long itemId;
+    private String itemName;
+    private String variantName;
+    private Integer quantity;
+    private BigDecimal price;
+
+    public OrderItemDTO(OrderItem orderItem) {
+        this.id = orderItem.getId();
+        this.itemId = orderItem.getItemId();
+        this.itemName = orderItem.getItemName();
+        this.variantName = orderItem.getVariantName();
+        this.quantity = orderItem.getQuantity();
+        this.price = orderItem.getPrice();
+    }
+}
@@ -0,0 +1,28 @@
+package com.menubyte.dto;
+
+import com.menubyte.entity.SalesForecast;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesForecastDTO {
+    private Long businessId;
+    private LocalDate forecastDate;
+    private double forecastAmount;
+    private int dataPoints;
+    private LocalDateTime generatedAt;
+
+    public SalesForecastDTO(SalesForecast forecast) {
+        this.businessId = forecast.getBusinessId();
+        this.forecastDate = forecast.getForecastDate();
+        this.forecastAmount = forecast.getForecastAmount();
+        this.dataPoints = forecast.getDataPoints();
+        this.generatedAt = forecast.getGeneratedAt();
+    }
+}
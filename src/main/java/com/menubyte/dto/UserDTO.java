@@ -0,0 +1,39 @@
+package com.menubyte.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.menubyte.entity.User;
+import com.menubyte.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * User without the password. {@code businesses} is only filled (and serialized) when the caller loaded them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private String mobileNumber;
+    private UserType userType;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<BusinessDTO> businesses;
+
+    public UserDTO(User user) {
+        this(user, null);
+    }
+
+    public UserDTO(User user, List<BusinessDTO> businesses) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.mobileNumber = user.getMobileNumber();
+        this.userType = user.getUserType();
+        this.businesses = businesses;
+    }
+}
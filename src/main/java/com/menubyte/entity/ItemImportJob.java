@@ -0,0 +1,92 @@
+package com.menubyte.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.menubyte.enums.ImportJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a streaming item import. {@code rowsProcessed} only advances when a chunk commits,
+ * so a failed or interrupted import can be resumed by uploading the same file again with the job ID.
+ * {@code updatedAt} doubles as the worker's heartbeat: a QUEUED or RUNNING job that has not moved for
+ * {@code menubyte.import.stale-after-ms} (e.g. after a crash) can be resumed too, and the version check
+ * stops the old worker if it was only slow.
+ */
+@Entity
+@Table(name = "item_import_job", indexes = {
+        @Index(name = "idx_item_import_job_business_id", columnList = "business_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ItemImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_id", nullable = false)
+    private Long businessId;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    /** Hex SHA-256 of the uploaded file; null for jobs created before it was recorded. */
+    @Column(name = "file_sha256", length = 64)
+    private String fileSha256;
+
+    @Column(nullable = false, length = 10)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "rows_processed", nullable = false)
+    private int rowsProcessed;
+
+    @Column(name = "rows_imported", nullable = false)
+    private int rowsImported;
+
+    @Column(name = "rows_failed", nullable = false)
+    private int rowsFailed;
+
+    /** One line per rejected row ("row N: reason"), capped to keep the row small. */
+    @Column(name = "error_report", columnDefinition = "TEXT")
+    private String errorReport;
+
+    @Column(name = "failure_reason", length = 4000)
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Version
+    @JsonIgnore
+    private long version;
+}
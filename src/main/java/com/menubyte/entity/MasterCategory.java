@@ -7,6 +7,9 @@ import lombok.*;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_master_category_business_type", columnList = "business_type")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,7 +31,9 @@ public class MasterCategory {
     @OneToMany(mappedBy = "masterCategory", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference("master-category-item-ref") // Unique name for this managed-reference
     private List<MasterItem> masterItems;
+    // Named explicitly: @Index columnList refers to this name
     @Enumerated(EnumType.STRING)
+    @Column(name = "business_type")
     private com.menubyte.enums.BusinessType businessType;
 
 }
@@ -48,4 +48,9 @@ public class Menu {
         @Column(name = "updated_date", nullable = true)
         private LocalDateTime updatedDate;
         // --- END NEW AUDITING FIELDS ---
+
+        // Incremented on every content change; clients send it back to detect concurrent edits
+        @Column(name = "content_version", nullable = false)
+        @ColumnDefault("0")
+        private long contentVersion;
 }
\ No newline at end of file
@@ -11,6 +11,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Partitioned by month on {@code created_at} (V8 migration); the razorpay IDs are kept unique through
+ * {@code order_razorpay_keys}, since a unique constraint on a partitioned table must include the partition key.
+ */
 @Entity
 @Table(name = "orders")
 @Data
@@ -20,10 +24,10 @@ public class Order {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "razorpay_order_id", unique = true, nullable = true)
+    @Column(name = "razorpay_order_id", nullable = true)
     private String razorpayOrderId;
 
-    @Column(name = "razorpay_payment_id", unique = true, nullable = true)
+    @Column(name = "razorpay_payment_id", nullable = true)
     private String razorpayPaymentId;
 
     @Column(name = "business_id", nullable = false)
@@ -44,7 +48,8 @@ public class Order {
     @Column(name = "payment_status", nullable = false)
     private PaymentStatus paymentStatus;
 
-    @Column(name = "created_at", nullable = false)
+    // Partition key: never updated, so an order and its lines stay in their month's partitions
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
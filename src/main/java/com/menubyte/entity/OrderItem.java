@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "order_items")
@@ -16,11 +17,17 @@ public class OrderItem {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    // The database key is (order_id, order_created_at) -> orders (id, created_at); see V8
+    @JoinColumn(name = "order_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @JsonBackReference
     @JsonIgnore
     private Order order;
 
+    /** The order's created_at, the partition key of order_items. Copied from the order on insert. */
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    @JsonIgnore
+    private LocalDateTime orderCreatedAt;
+
     @Column(name = "item_id", nullable = false)
     private Long itemId;
 
@@ -36,5 +43,12 @@ public class OrderItem {
     @Column(name = "price", nullable = false)
     private BigDecimal price;
 
+    @PrePersist
+    void copyOrderCreatedAt() {
+        if (orderCreatedAt == null && order != null) {
+            orderCreatedAt = order.getCreatedAt();
+        }
+    }
+
     // Getters and Setters
 }
\ No newline at end of file
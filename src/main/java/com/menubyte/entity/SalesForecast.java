@@ -0,0 +1,51 @@
+package com.menubyte.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Latest precomputed next-day sales forecast for a business.
+ * One row per business, overwritten by the nightly forecast batch.
+ */
+@Entity
+@Table(name = "sales_forecast", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"business_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalesForecast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_id", nullable = false)
+    private Long businessId;
+
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate forecastDate;
+
+    @Column(name = "forecast_amount", nullable = false)
+    private double forecastAmount;
+
+    @Column(name = "data_points", nullable = false)
+    private int dataPoints;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+}
@@ -0,0 +1,8 @@
+package com.menubyte.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
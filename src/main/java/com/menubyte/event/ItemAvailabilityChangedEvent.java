@@ -0,0 +1,25 @@
+package com.menubyte.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Published when items are switched on or off through the availability hot path.
+ * Unlike {@link MenuChangedEvent}, caches can apply it in place instead of rebuilding the menu.
+ */
+@Getter
+public class ItemAvailabilityChangedEvent {
+    private final Long businessId;
+    private final Collection<Long> itemIds;
+    private final boolean available;
+    private final long contentVersion;
+
+    public ItemAvailabilityChangedEvent(Long businessId, Collection<Long> itemIds, boolean available, long contentVersion) {
+        this.businessId = businessId;
+        this.itemIds = Collections.unmodifiableCollection(itemIds);
+        this.available = available;
+        this.contentVersion = contentVersion;
+    }
+}
@@ -0,0 +1,20 @@
+package com.menubyte.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Published when master items are created, updated or deleted, so the catalog autocomplete index can
+ * reload just those rows after commit. No IDs means the whole catalog may have changed
+ * (e.g. a master category was renamed or deleted).
+ */
+@Getter
+public class MasterCatalogChangedEvent {
+    private final Collection<Long> masterItemIds;
+
+    public MasterCatalogChangedEvent(Collection<Long> masterItemIds) {
+        this.masterItemIds = masterItemIds == null ? Collections.emptyList() : Collections.unmodifiableCollection(masterItemIds);
+    }
+}
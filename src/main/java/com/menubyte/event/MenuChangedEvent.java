@@ -0,0 +1,29 @@
+package com.menubyte.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Published once per write that changes what a business's menu shows, so anything caching menu state
+ * can refresh it. Listeners should use {@code @TransactionalEventListener} to act only after commit.
+ * {@code contentVersion} is the menu's version after an item or category edit, and null for changes that
+ * don't touch menu content (e.g. the subscription lapsing).
+ */
+@Getter
+public class MenuChangedEvent {
+    private final Long businessId;
+    private final Collection<Long> itemIds;
+    private final Long contentVersion;
+
+    public MenuChangedEvent(Long businessId, Collection<Long> itemIds) {
+        this(businessId, itemIds, null);
+    }
+
+    public MenuChangedEvent(Long businessId, Collection<Long> itemIds, Long contentVersion) {
+        this.businessId = businessId;
+        this.itemIds = itemIds == null ? Collections.emptyList() : Collections.unmodifiableCollection(itemIds);
+        this.contentVersion = contentVersion;
+    }
+}
@@ -0,0 +1,94 @@
+package com.menubyte.event;
+
+import com.menubyte.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes menu changes to connected clients (menu screens, kitchen displays) over server-sent events.
+ * Events are sent after the change commits: {@code availability} carries the item IDs and new state,
+ * {@code menu-changed} tells the client to reload the menu.
+ */
+@Slf4j
+@Component
+public class MenuUpdateBroadcaster {
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+
+    public MenuUpdateBroadcaster(@Value("${menubyte.menu-stream.timeout-ms:1800000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(Long businessId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(businessId, id -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(ItemAvailabilityChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("itemIds", event.getItemIds());
+        payload.put("available", event.isAvailable());
+        payload.put("contentVersion", event.getContentVersion());
+        send(event.getBusinessId(), "availability", payload);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("itemIds", event.getItemIds());
+        if (event.getContentVersion() != null) {
+            payload.put("contentVersion", event.getContentVersion());
+        }
+        send(event.getBusinessId(), "menu-changed", payload);
+    }
+
+    /** Clients connected to this node are told to reload when the menu was changed through another node. */
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidationEvent event) {
+        if (!CacheInvalidationBus.MENU.equals(event.getCacheName())) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("itemIds", List.of());
+        if (event.isAllKeys()) {
+            subscribers.keySet().forEach(businessId -> send(businessId, "menu-changed", payload));
+        } else {
+            send(event.keyAsId(), "menu-changed", payload);
+        }
+    }
+
+    private void send(Long businessId, String name, Object payload) {
+        List<SseEmitter> emitters = subscribers.get(businessId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; drop it instead of failing the request that caused the change.
+                emitters.remove(emitter);
+                log.debug("menu_stream_client_dropped businessId={}", businessId);
+            }
+        }
+    }
+}
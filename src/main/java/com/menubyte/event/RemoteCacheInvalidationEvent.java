@@ -0,0 +1,32 @@
+package com.menubyte.event;
+
+import lombok.Getter;
+
+/**
+ * Published locally when another node invalidated a cache entry (see {@code CacheInvalidationBus}).
+ * {@code key} is the entry's key as text, or {@code "*"} for the whole cache; {@code version} is the
+ * writer's content version, or a negative value when the write carried none.
+ */
+@Getter
+public class RemoteCacheInvalidationEvent {
+    public static final String ALL_KEYS = "*";
+
+    private final String cacheName;
+    private final String key;
+    private final long version;
+
+    public RemoteCacheInvalidationEvent(String cacheName, String key, long version) {
+        this.cacheName = cacheName;
+        this.key = key;
+        this.version = version;
+    }
+
+    public boolean isAllKeys() {
+        return ALL_KEYS.equals(key);
+    }
+
+    /** The key as an ID; only valid when {@link #isAllKeys()} is false. */
+    public Long keyAsId() {
+        return Long.valueOf(key);
+    }
+}
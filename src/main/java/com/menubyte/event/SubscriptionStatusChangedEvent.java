@@ -0,0 +1,22 @@
+package com.menubyte.event;
+
+import com.menubyte.enums.SubscriptionStatus;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Published when subscriptions change status in bulk (e.g. expired by the sweeper), so caches holding
+ * entitlements can drop the affected businesses after commit.
+ */
+@Getter
+public class SubscriptionStatusChangedEvent {
+    private final Collection<Long> businessIds;
+    private final SubscriptionStatus status;
+
+    public SubscriptionStatusChangedEvent(Collection<Long> businessIds, SubscriptionStatus status) {
+        this.businessIds = Collections.unmodifiableCollection(businessIds);
+        this.status = status;
+    }
+}
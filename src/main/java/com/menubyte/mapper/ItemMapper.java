@@ -5,6 +5,10 @@ import com.menubyte.entity.Item;
 import com.menubyte.entity.ItemVariant;
 import com.menubyte.enums.VegNonVeg; // Ensure this import is correct
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +39,7 @@ public class ItemMapper {
             itemDto.setVariants(item.getVariants().stream()
                     .map(variant -> {
                         ItemVariantDto variantDto = new ItemVariantDto();
+                        variantDto.setId(variant.getId());
                         variantDto.setVariantName(variant.getVariantName());
                         variantDto.setPrice(variant.getPrice());
                         return variantDto;
@@ -111,20 +116,73 @@ public class ItemMapper {
             existingItem.setItemAvailability(itemDto.isItemAvailability());
         existingItem.setDealOfTheDay(itemDto.isDealOfTheDay());
 
-    // ADD THIS: Update variants
-    // Clear existing variants
-    existingItem.getVariants().clear();
+        // Update variants in place so unchanged rows and their IDs are kept
+        if (itemDto.getVariants() != null) {
+            mergeVariants(existingItem, itemDto.getVariants());
+        }
+    }
 
-    // Add new variants from DTO
-    if (itemDto.getVariants() != null) {
-        existingItem.getVariants().addAll(itemDto.getVariants().stream()
-                .map(variantDto -> {
-                    ItemVariant variant = new ItemVariant();
-                    variant.setVariantName(variantDto.getVariantName());
-                    variant.setPrice(variantDto.getPrice());
-                    variant.setItem(existingItem);
-                    return variant;
-                })
-                .collect(Collectors.toList()));
+    /**
+     * Brings the item's variants in line with the requested list by diffing instead of clear-and-reinsert.
+     * A requested variant matches an existing one by ID, otherwise by name (case-insensitive).
+     * Matched variants are only modified when name or price differ; unmatched existing variants are removed
+     * (orphanRemoval deletes them) and unmatched requested ones are added.
+     *
+     * @param item The managed Item whose variants are updated.
+     * @param requested The desired variants.
+     */
+    public static void mergeVariants(Item item, List<ItemVariantDto> requested) {
+        List<ItemVariant> existing = item.getVariants();
+        Map<Long, ItemVariant> unmatchedById = new LinkedHashMap<>();
+        for (ItemVariant variant : existing) {
+            unmatchedById.put(variant.getId(), variant);
+        }
+
+        List<ItemVariantDto> unmatchedRequests = new ArrayList<>();
+        for (ItemVariantDto dto : requested) {
+            ItemVariant match = dto.getId() != null ? unmatchedById.remove(dto.getId()) : null;
+            if (match != null) {
+                applyVariant(dto, match);
+            } else {
+                unmatchedRequests.add(dto);
+            }
+        }
+
+        List<ItemVariantDto> toInsert = new ArrayList<>();
+        for (ItemVariantDto dto : unmatchedRequests) {
+            ItemVariant match = null;
+            for (ItemVariant candidate : unmatchedById.values()) {
+                if (candidate.getVariantName() != null && dto.getVariantName() != null
+                        && candidate.getVariantName().trim().equalsIgnoreCase(dto.getVariantName().trim())) {
+                    match = candidate;
+                    break;
+                }
+            }
+            if (match != null) {
+                unmatchedById.remove(match.getId());
+                applyVariant(dto, match);
+            } else {
+                toInsert.add(dto);
+            }
+        }
+
+        existing.removeAll(unmatchedById.values());
+        for (ItemVariantDto dto : toInsert) {
+            ItemVariant variant = new ItemVariant();
+            variant.setVariantName(dto.getVariantName());
+            variant.setPrice(dto.getPrice());
+            variant.setItem(item);
+            existing.add(variant);
+        }
+    }
+
+    // Only touch fields that differ; unchanged variants produce no UPDATE
+    private static void applyVariant(ItemVariantDto dto, ItemVariant variant) {
+        if (dto.getVariantName() != null && !dto.getVariantName().equals(variant.getVariantName())) {
+            variant.setVariantName(dto.getVariantName());
+        }
+        if (dto.getPrice() != null && dto.getPrice() != variant.getPrice()) {
+            variant.setPrice(dto.getPrice());
+        }
     }
-}}
\ No newline at end of file
+}
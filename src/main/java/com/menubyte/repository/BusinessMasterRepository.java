@@ -1,8 +1,14 @@
 package com.menubyte.repository;
 
+import com.menubyte.dto.AdminBusinessRow;
 import com.menubyte.entity.BusinessMaster;
 import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.enums.SubscriptionType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -22,6 +28,21 @@ public interface BusinessMasterRepository extends JpaRepository<BusinessMaster,
      */
     List<BusinessMaster> findByUserId(Long userId);
 
+    /**
+     * All BusinessMaster records with their user and business, in one query.
+     */
+    @Query("SELECT bm FROM BusinessMaster bm JOIN FETCH bm.user JOIN FETCH bm.business")
+    List<BusinessMaster> findAllWithUserAndBusiness();
+
+    /**
+     * BusinessMaster records of a user with the user and business, in one query.
+     */
+    @Query("SELECT bm FROM BusinessMaster bm JOIN FETCH bm.user JOIN FETCH bm.business WHERE bm.user.id = :userId")
+    List<BusinessMaster> findWithUserAndBusinessByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT bm FROM BusinessMaster bm JOIN FETCH bm.user JOIN FETCH bm.business WHERE bm.id = :id")
+    Optional<BusinessMaster> findWithUserAndBusinessById(@Param("id") Long id);
+
     /**
      * Finds all BusinessMaster records for a specific Business ID.
      */
@@ -36,4 +57,66 @@ public interface BusinessMasterRepository extends JpaRepository<BusinessMaster,
      * Finds all BusinessMaster records that are active on a given date.
      */
     List<BusinessMaster> findByRegisterDateBeforeAndEndDateAfter(LocalDate dateBefore, LocalDate dateAfter);
+
+    /**
+     * Subscription columns for one business, without loading the entity or its associations.
+     * Each row is {subscriptionStatus, subscriptionType, endDate}.
+     */
+    @Query("SELECT bm.subscriptionStatus, bm.subscriptionType, bm.endDate FROM BusinessMaster bm "
+            + "WHERE bm.business.id = :businessId")
+    List<Object[]> findEntitlementByBusinessId(@Param("businessId") Long businessId);
+
+    /**
+     * Subscription types of every business the user has registered (trial limit check).
+     */
+    @Query("SELECT bm.subscriptionType FROM BusinessMaster bm WHERE bm.user.id = :userId")
+    List<SubscriptionType> findSubscriptionTypesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Marks up to {@code batchSize} ACTIVE subscriptions that ended before {@code today} as INACTIVE and
+     * returns their business IDs. Rows locked by a concurrent sweep are skipped rather than waited for.
+     */
+    @Query(value = "UPDATE business_master SET subscription_status = 'INACTIVE' "
+            + "WHERE id IN (SELECT id FROM business_master "
+            + "WHERE subscription_status = 'ACTIVE' AND end_date < :today "
+            + "ORDER BY end_date LIMIT :batchSize FOR UPDATE SKIP LOCKED) "
+            + "RETURNING business_id", nativeQuery = true)
+    List<Long> expireEndedSubscriptions(@Param("today") LocalDate today, @Param("batchSize") int batchSize);
+
+    /**
+     * Transaction-scoped Postgres advisory lock; false if another session holds it.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(@Param("key") long key);
+
+    /**
+     * Admin listing: one row per subscription with its business and owner, in a single JOIN query.
+     * Every filter is optional (null means "any"); sort properties on the business must use the
+     * {@code b.} alias and on the owner the {@code u.} alias.
+     */
+    @Query(value = "SELECT new com.menubyte.dto.AdminBusinessRow(bm.id, b.id, b.businessName, b.businessType, "
+            + "u.id, u.username, u.email, u.mobileNumber, bm.subscriptionStatus, bm.subscriptionType, "
+            + "bm.registerDate, bm.endDate, bm.amountPaid) "
+            + "FROM BusinessMaster bm JOIN bm.business b JOIN bm.user u "
+            + "WHERE (:status IS NULL OR bm.subscriptionStatus = :status) "
+            + "AND (:type IS NULL OR bm.subscriptionType = :type) "
+            + "AND (:endFrom IS NULL OR bm.endDate >= :endFrom) "
+            + "AND (:endTo IS NULL OR bm.endDate <= :endTo)",
+            countQuery = "SELECT COUNT(bm) FROM BusinessMaster bm "
+                    + "WHERE (:status IS NULL OR bm.subscriptionStatus = :status) "
+                    + "AND (:type IS NULL OR bm.subscriptionType = :type) "
+                    + "AND (:endFrom IS NULL OR bm.endDate >= :endFrom) "
+                    + "AND (:endTo IS NULL OR bm.endDate <= :endTo)")
+    Page<AdminBusinessRow> findAdminRows(@Param("status") SubscriptionStatus status,
+                                         @Param("type") SubscriptionType type,
+                                         @Param("endFrom") LocalDate endFrom,
+                                         @Param("endTo") LocalDate endTo,
+                                         Pageable pageable);
+
+    /**
+     * Subscription counts over all tenants. Each row is {subscriptionType, subscriptionStatus, count}.
+     */
+    @Query("SELECT bm.subscriptionType, bm.subscriptionStatus, COUNT(bm) FROM BusinessMaster bm "
+            + "GROUP BY bm.subscriptionType, bm.subscriptionStatus")
+    List<Object[]> countBySubscriptionTypeAndStatus();
 }
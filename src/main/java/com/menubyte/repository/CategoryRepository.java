@@ -5,6 +5,7 @@ import com.menubyte.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +35,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByCategoryDescriptionAndMenu(String categoryDescription, Menu menu);
     Optional<Category> findByMenuAndCategoryDescription(Menu menu, String categoryDescription);
 
+    /**
+     * Finds the Categories with the given IDs that belong to a specific Menu ID.
+     */
+    List<Category> findByMenuIdAndIdIn(Long menuId, Collection<Long> categoryIds);
+
 }
@@ -0,0 +1,9 @@
+package com.menubyte.repository;
+
+import com.menubyte.entity.ItemImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ItemImportJobRepository extends JpaRepository<ItemImportJob, Long> {
+}
@@ -2,8 +2,12 @@ package com.menubyte.repository;
 
 import com.menubyte.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,4 +67,49 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
      * This method traverses the relationship: Item -> Menu -> Business.
      */
     List<Item> findByMenuBusinessId(Long businessId);
-}
\ No newline at end of file
+
+    /**
+     * Items of a business with their variants and master item, in one query.
+     */
+    @Query("SELECT i FROM Item i LEFT JOIN FETCH i.variants LEFT JOIN FETCH i.masterItem "
+            + "WHERE i.menu.business.id = :businessId")
+    List<Item> findDetailsByBusinessId(@Param("businessId") Long businessId);
+
+    /**
+     * One item with its variants and master item, in one query.
+     */
+    @Query("SELECT i FROM Item i LEFT JOIN FETCH i.variants LEFT JOIN FETCH i.masterItem WHERE i.id = :itemId")
+    Optional<Item> findDetailsById(@Param("itemId") Long itemId);
+
+    /**
+     * Returns which of the given item IDs belong to the business's menu (ownership check without loading items).
+     */
+    @Query("SELECT i.id FROM Item i WHERE i.menu.business.id = :businessId AND i.id IN :itemIds")
+    List<Long> findIdsByBusinessIdAndIdIn(@Param("businessId") Long businessId, @Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * Deletes the items in one statement. Variants must be deleted first
+     * ({@link ItemVariantRepository#deleteByItemIdIn}); cascades and orphanRemoval are bypassed.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Item i WHERE i.id IN :itemIds")
+    int deleteByIdIn(@Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * Sets availability for the given items of the business's menu in one statement and returns the IDs
+     * that were updated; IDs of other businesses are left untouched and not returned.
+     */
+    @Query(value = "UPDATE item SET item_availability = :available, updated_date = now() "
+            + "WHERE id IN (:itemIds) AND menu_id = (SELECT m.id FROM menu m WHERE m.business_id = :businessId) "
+            + "RETURNING id", nativeQuery = true)
+    List<Long> updateAvailability(@Param("businessId") Long businessId,
+                                  @Param("itemIds") Collection<Long> itemIds,
+                                  @Param("available") boolean available);
+
+    /**
+     * Number of menu items created from each master item, for ranking catalog suggestions.
+     * Each row is {masterItemId, count}.
+     */
+    @Query("SELECT i.masterItem.id, COUNT(i) FROM Item i WHERE i.masterItem IS NOT NULL GROUP BY i.masterItem.id")
+    List<Object[]> countItemsByMasterItem();
+}
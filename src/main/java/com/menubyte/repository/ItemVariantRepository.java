@@ -2,11 +2,23 @@ package com.menubyte.repository;
 
 import com.menubyte.entity.ItemVariant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+
 @Repository
 public interface ItemVariantRepository extends JpaRepository<ItemVariant, Long> {
     @Transactional
     void deleteByItemId(Long itemId);
+
+    /**
+     * Deletes all variants of the given items in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM ItemVariant v WHERE v.item.id IN :itemIds")
+    int deleteByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
 }
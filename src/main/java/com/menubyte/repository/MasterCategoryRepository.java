@@ -1,9 +1,15 @@
 package com.menubyte.repository;
 
+import com.menubyte.dto.MasterCategoryDTO;
 import com.menubyte.entity.MasterCategory;
+import com.menubyte.enums.BusinessType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +19,23 @@ public interface MasterCategoryRepository extends JpaRepository<MasterCategory,
      * Finds a MasterCategory by its unique category description.
      */
     Optional<MasterCategory> findByCategoryDescription(String categoryDescription);
+
+    @Query("SELECT mc.id FROM MasterCategory mc WHERE mc.categoryDescription = :categoryDescription")
+    Optional<Long> findIdByCategoryDescription(@Param("categoryDescription") String categoryDescription);
+
+    /**
+     * Finds all MasterCategories matching any of the given descriptions (one query for a bulk import).
+     */
+    List<MasterCategory> findByCategoryDescriptionIn(Collection<String> categoryDescriptions);
+
+    /**
+     * Master categories of one business type as DTOs (uses idx_master_category_business_type).
+     */
+    @Query("SELECT new com.menubyte.dto.MasterCategoryDTO(mc.id, mc.categoryDescription, mc.businessType) "
+            + "FROM MasterCategory mc WHERE mc.businessType = :businessType ORDER BY mc.categoryDescription")
+    List<MasterCategoryDTO> findByBusinessType(@Param("businessType") BusinessType businessType);
+
+    @Query("SELECT new com.menubyte.dto.MasterCategoryDTO(mc.id, mc.categoryDescription, mc.businessType) "
+            + "FROM MasterCategory mc ORDER BY mc.categoryDescription")
+    List<MasterCategoryDTO> findAllAsDto();
 }
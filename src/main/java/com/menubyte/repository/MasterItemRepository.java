@@ -3,7 +3,10 @@ package com.menubyte.repository;
 import com.menubyte.entity.MasterItem;
 import com.menubyte.entity.MasterCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,22 @@ public interface MasterItemRepository extends JpaRepository<MasterItem, Long> {
      */
     Optional<MasterItem> findByItemNameIgnoreCase(String itemName); // <--- Added this method
 
+    /**
+     * Finds all MasterItems belonging to any of the given MasterCategory IDs (one query for a bulk import).
+     */
+    List<MasterItem> findByMasterCategory_IdIn(Collection<Long> masterCategoryIds);
+
+    /**
+     * Columns the autocomplete index needs, without loading entities.
+     * Each row is {id, itemName, masterCategoryId, businessType}.
+     */
+    @Query("SELECT mi.id, mi.itemName, mc.id, mc.businessType FROM MasterItem mi LEFT JOIN mi.masterCategory mc")
+    List<Object[]> findAutocompleteRows();
+
+    @Query("SELECT mi.id, mi.itemName, mc.id, mc.businessType FROM MasterItem mi LEFT JOIN mi.masterCategory mc "
+            + "WHERE mi.id IN :ids")
+    List<Object[]> findAutocompleteRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     // IMPORTANT: Ensure you have removed any method like:
     // List<MasterItem> findByCategoryId(Long categoryId);
     // as this method signature is incorrect for the MasterItem entity structure.
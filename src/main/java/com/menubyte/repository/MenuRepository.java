@@ -2,6 +2,8 @@ package com.menubyte.repository;
 
 import com.menubyte.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +16,21 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      * Since Business has a OneToOne relationship with Menu, this should return at most one.
      */
     Optional<Menu> findByBusinessId(Long businessId);
-}
+
+    /**
+     * Atomically increments the menu's content version and returns the new value.
+     * When {@code expectedVersion} is given, the row is only updated if it still has that version;
+     * {@code null} is returned on a mismatch. The row lock also serialises concurrent menu edits.
+     */
+    @Query(value = "UPDATE menu SET content_version = content_version + 1, updated_date = now() "
+            + "WHERE id = :menuId AND (CAST(:expectedVersion AS bigint) IS NULL OR content_version = :expectedVersion) "
+            + "RETURNING content_version", nativeQuery = true)
+    Long incrementContentVersion(@Param("menuId") Long menuId, @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Increments the content version of the business's menu and returns the new value.
+     */
+    @Query(value = "UPDATE menu SET content_version = content_version + 1, updated_date = now() "
+            + "WHERE business_id = :businessId RETURNING content_version", nativeQuery = true)
+    Long incrementContentVersionByBusinessId(@Param("businessId") Long businessId);
+}
\ No newline at end of file
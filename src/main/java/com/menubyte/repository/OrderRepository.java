@@ -3,6 +3,7 @@ package com.menubyte.repository;
 import com.menubyte.dto.DailySalesDTO;
 import com.menubyte.dto.TopSellingItemDTO;
 import com.menubyte.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,30 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByBusinessIdOrderByCreatedAtDesc(Long businessId);
     List<Order> findByBusinessIdAndCreatedAtAfterOrderByCreatedAtDesc(Long businessId, LocalDateTime date);
 
+    /**
+     * Orders of a business created after {@code since}, newest first, with their lines in the same query.
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems "
+            + "WHERE o.businessId = :businessId AND o.createdAt > :since ORDER BY o.createdAt DESC")
+    List<Order> findWithItemsByBusinessIdCreatedAfter(@Param("businessId") Long businessId,
+                                                      @Param("since") LocalDateTime since);
+
+    /**
+     * PENDING orders of a business created after {@code since}, oldest first, with their lines. The status is a
+     * literal so the planner can match the partial index idx_orders_business_pending even for a generic plan.
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems "
+            + "WHERE o.businessId = :businessId AND o.createdAt > :since "
+            + "AND o.orderStatus = com.menubyte.enums.OrderStatus.PENDING ORDER BY o.createdAt ASC")
+    List<Order> findPendingWithItemsByBusinessIdCreatedAfter(@Param("businessId") Long businessId,
+                                                             @Param("since") LocalDateTime since);
+
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.businessId = :businessId ORDER BY o.createdAt DESC")
+    List<Order> findWithItemsByBusinessId(@Param("businessId") Long businessId);
+
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :orderId")
+    Optional<Order> findWithItemsById(@Param("orderId") Long orderId);
+
     @Query("SELECT MIN(o.createdAt) FROM Order o WHERE o.businessId = :businessId")
     Optional<LocalDateTime> findEarliestOrderDate(@Param("businessId") Long businessId);
 
@@ -34,7 +59,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Object[]> findDailySalesByBusinessAndPeriod(@Param("businessId") Long businessId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     @Query("SELECT new com.menubyte.dto.TopSellingItemDTO(oi.itemId, oi.itemName, SUM(oi.quantity)) " +
             "FROM Order o JOIN o.orderItems oi " +
+            // The second range repeats the first on order_items' partition key so both tables are pruned
             "WHERE o.businessId = :businessId AND o.createdAt BETWEEN :startDate AND :endDate " +
+            "AND oi.orderCreatedAt BETWEEN :startDate AND :endDate " +
             "GROUP BY oi.itemId, oi.itemName ORDER BY SUM(oi.quantity) DESC")
     List<TopSellingItemDTO> findTopSellingItemsByBusinessAndPeriod(
             @Param("businessId") Long businessId,
@@ -45,4 +72,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByBusinessId(Long businessId);
     List<Order> findByBusinessIdAndCreatedAtBetween(Long businessId, java.time.LocalDateTime start, java.time.LocalDateTime end);
 
-}
\ No newline at end of file
+
+    /**
+     * Business IDs ordered by number of orders since {@code since}, busiest first (limited by the pageable).
+     */
+    @Query("SELECT o.businessId FROM Order o WHERE o.createdAt >= :since GROUP BY o.businessId ORDER BY COUNT(o) DESC")
+    List<Long> findBusiestBusinessIds(@Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.menubyte.repository;
+
+import com.menubyte.entity.SalesForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SalesForecastRepository extends JpaRepository<SalesForecast, Long> {
+
+    /**
+     * Finds the stored forecast for a specific Business ID.
+     */
+    Optional<SalesForecast> findByBusinessId(Long businessId);
+}
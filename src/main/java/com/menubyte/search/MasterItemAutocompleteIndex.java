@@ -0,0 +1,194 @@
+package com.menubyte.search;
+
+import com.menubyte.dto.MasterItemSuggestion;
+import com.menubyte.enums.BusinessType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable prefix index over master item names.
+ *
+ * <p>Each name is stored once per word start ("butter paneer masala" under "butter paneer masala",
+ * "paneer masala" and "masala") in one sorted key array with a parallel entry array, so a prefix is a
+ * binary search plus a contiguous scan. That gives the lookups of a trie without a node per character.
+ * Updates copy the arrays with a linear merge instead of reloading the catalog.</p>
+ */
+public final class MasterItemAutocompleteIndex {
+
+    private static final MasterItemAutocompleteIndex EMPTY = new MasterItemAutocompleteIndex(new String[0], new Entry[0]);
+
+    private final String[] keys;
+    private final Entry[] entries;
+
+    private MasterItemAutocompleteIndex(String[] keys, Entry[] entries) {
+        this.keys = keys;
+        this.entries = entries;
+    }
+
+    public static MasterItemAutocompleteIndex empty() {
+        return EMPTY;
+    }
+
+    public static MasterItemAutocompleteIndex build(Collection<Entry> catalog) {
+        return EMPTY.apply(Collections.emptySet(), catalog);
+    }
+
+    /** Returns an index without the items in {@code removedIds} and with {@code upserts} added or replaced. */
+    public MasterItemAutocompleteIndex apply(Collection<Long> removedIds, Collection<Entry> upserts) {
+        Set<Long> dropped = new HashSet<>(removedIds);
+        upserts.forEach(entry -> dropped.add(entry.id));
+
+        List<Key> added = new ArrayList<>();
+        for (Entry entry : upserts) {
+            List<String> tokens = MenuSearchIndex.tokenize(entry.itemName);
+            for (int i = 0; i < tokens.size(); i++) {
+                added.add(new Key(String.join(" ", tokens.subList(i, tokens.size())), entry));
+            }
+        }
+        added.sort(Comparator.comparing((Key key) -> key.key).thenComparing(key -> key.entry.id));
+
+        String[] mergedKeys = new String[keys.length + added.size()];
+        Entry[] mergedEntries = new Entry[mergedKeys.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < added.size()) {
+            if (i < keys.length && dropped.contains(entries[i].id)) {
+                i++;
+                continue;
+            }
+            boolean takeExisting = j >= added.size()
+                    || (i < keys.length && keys[i].compareTo(added.get(j).key) <= 0);
+            if (takeExisting) {
+                mergedKeys[size] = keys[i];
+                mergedEntries[size++] = entries[i++];
+            } else {
+                mergedKeys[size] = added.get(j).key;
+                mergedEntries[size++] = added.get(j++).entry;
+            }
+        }
+        return new MasterItemAutocompleteIndex(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedEntries, size));
+    }
+
+    /** Returns an index with refreshed usage counts; keys are shared with this index. */
+    public MasterItemAutocompleteIndex withUsageCounts(Map<Long, Long> usageCounts) {
+        Map<Entry, Entry> replaced = new IdentityHashMap<>();
+        Entry[] updated = new Entry[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            updated[i] = replaced.computeIfAbsent(entries[i],
+                    entry -> entry.withUsageCount(usageCounts.getOrDefault(entry.id, 0L)));
+        }
+        return new MasterItemAutocompleteIndex(keys, updated);
+    }
+
+    /** Number of distinct master items. */
+    public int size() {
+        return (int) Arrays.stream(entries).map(entry -> entry.id).distinct().count();
+    }
+
+    /**
+     * Top {@code limit} items with a word starting with {@code prefix}, most used first.
+     * Names that start with the prefix rank ahead of names that only contain a word starting with it.
+     */
+    public List<MasterItemSuggestion> suggest(String prefix, Long masterCategoryId, BusinessType businessType, int limit) {
+        String normalized = String.join(" ", MenuSearchIndex.tokenize(prefix));
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Map<Long, Match> matches = new LinkedHashMap<>();
+        for (int i = lowerBound(normalized); i < keys.length && keys[i].startsWith(normalized); i++) {
+            Entry entry = entries[i];
+            if ((masterCategoryId != null && !masterCategoryId.equals(entry.masterCategoryId))
+                    || (businessType != null && businessType != entry.businessType)) {
+                continue;
+            }
+            boolean fromStart = entry.normalizedName.startsWith(normalized);
+            matches.merge(entry.id, new Match(entry, fromStart),
+                    (current, candidate) -> candidate.fromStart ? candidate : current);
+        }
+        return matches.values().stream()
+                .sorted(Comparator.comparingLong((Match match) -> match.entry.usageCount).reversed()
+                        .thenComparing(match -> !match.fromStart)
+                        .thenComparing(match -> match.entry.normalizedName))
+                .limit(limit)
+                .map(match -> match.entry.toSuggestion())
+                .collect(Collectors.toList());
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** One master item as indexed. */
+    public static final class Entry {
+        private final Long id;
+        private final String itemName;
+        private final String normalizedName;
+        private final Long masterCategoryId;
+        private final BusinessType businessType;
+        private final long usageCount;
+
+        public Entry(Long id, String itemName, Long masterCategoryId, BusinessType businessType, long usageCount) {
+            this.id = Objects.requireNonNull(id);
+            this.itemName = itemName;
+            this.normalizedName = String.join(" ", MenuSearchIndex.tokenize(itemName));
+            this.masterCategoryId = masterCategoryId;
+            this.businessType = businessType;
+            this.usageCount = usageCount;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        private Entry withUsageCount(long count) {
+            return count == usageCount ? this : new Entry(id, itemName, masterCategoryId, businessType, count);
+        }
+
+        private MasterItemSuggestion toSuggestion() {
+            return new MasterItemSuggestion(id, itemName, masterCategoryId, businessType, usageCount);
+        }
+    }
+
+    private static final class Key {
+        private final String key;
+        private final Entry entry;
+
+        private Key(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    private static final class Match {
+        private final Entry entry;
+        private final boolean fromStart;
+
+        private Match(Entry entry, boolean fromStart) {
+            this.entry = entry;
+            this.fromStart = fromStart;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.menubyte.search;
+
+import com.menubyte.cache.CacheInvalidationBus;
+import com.menubyte.dto.MasterItemSuggestion;
+import com.menubyte.enums.BusinessType;
+import com.menubyte.event.MasterCatalogChangedEvent;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
+import com.menubyte.repository.ItemRepository;
+import com.menubyte.repository.MasterItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Autocomplete over the shared master item catalog, so the item editor no longer downloads the whole catalog.
+ *
+ * <p>The index is loaded on first use. Master item writes are applied after commit by reloading only the
+ * written rows; usage counts (menu items created from each master item) are refreshed on a schedule.</p>
+ */
+@Slf4j
+@Service
+public class MasterItemAutocompleteService {
+
+    private final MasterItemRepository masterItemRepository;
+    private final ItemRepository itemRepository;
+    private final int maxResults;
+
+    // Guarded by this; readers only see the volatile reference
+    private volatile MasterItemAutocompleteIndex index;
+    private Map<Long, Long> usageCounts = new HashMap<>();
+
+    public MasterItemAutocompleteService(MasterItemRepository masterItemRepository,
+                                         ItemRepository itemRepository,
+                                         @Value("${menubyte.autocomplete.max-results:20}") int maxResults) {
+        this.masterItemRepository = masterItemRepository;
+        this.itemRepository = itemRepository;
+        this.maxResults = maxResults;
+    }
+
+    public List<MasterItemSuggestion> suggest(String prefix, Long masterCategoryId, BusinessType businessType, int limit) {
+        MasterItemAutocompleteIndex current = index;
+        if (current == null) {
+            current = loadedIndex();
+        }
+        return current.suggest(prefix, masterCategoryId, businessType, Math.min(limit, maxResults));
+    }
+
+    private synchronized MasterItemAutocompleteIndex loadedIndex() {
+        return index != null ? index : rebuild();
+    }
+
+    /** Reloads the whole catalog and the usage counts. */
+    public synchronized MasterItemAutocompleteIndex rebuild() {
+        long startedAt = System.currentTimeMillis();
+        usageCounts = loadUsageCounts();
+        index = MasterItemAutocompleteIndex.build(toEntries(masterItemRepository.findAutocompleteRows()));
+        log.info("master_autocomplete_built items={} durationMs={}", index.size(), System.currentTimeMillis() - startedAt);
+        return index;
+    }
+
+    @Scheduled(fixedDelayString = "${menubyte.autocomplete.usage-refresh-ms:300000}",
+            initialDelayString = "${menubyte.autocomplete.usage-refresh-ms:300000}")
+    public synchronized void refreshUsageCounts() {
+        if (index == null) {
+            return;
+        }
+        usageCounts = loadUsageCounts();
+        index = index.withUsageCounts(usageCounts);
+        log.debug("master_autocomplete_usage_refreshed items={}", usageCounts.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMasterCatalogChanged(MasterCatalogChangedEvent event) {
+        if (index == null) {
+            return;
+        }
+        if (event.getMasterItemIds().isEmpty()) {
+            rebuild();
+            return;
+        }
+        List<MasterItemAutocompleteIndex.Entry> upserts =
+                toEntries(masterItemRepository.findAutocompleteRowsByIdIn(event.getMasterItemIds()));
+        // Requested rows that no longer exist were deleted
+        Set<Long> removed = new HashSet<>(event.getMasterItemIds());
+        upserts.forEach(entry -> removed.remove(entry.getId()));
+        index = index.apply(removed, upserts);
+        log.debug("master_autocomplete_updated upserted={} removed={}", upserts.size(), removed.size());
+    }
+
+    /** Master item writes made through another node, applied the same way as local ones. */
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidationEvent event) {
+        if (CacheInvalidationBus.MASTER_ITEMS.equals(event.getCacheName())) {
+            onMasterCatalogChanged(new MasterCatalogChangedEvent(event.isAllKeys() ? null : List.of(event.keyAsId())));
+        }
+    }
+
+    private Map<Long, Long> loadUsageCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : itemRepository.countItemsByMasterItem()) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private List<MasterItemAutocompleteIndex.Entry> toEntries(List<Object[]> rows) {
+        List<MasterItemAutocompleteIndex.Entry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            entries.add(new MasterItemAutocompleteIndex.Entry(id, (String) row[1], (Long) row[2],
+                    (BusinessType) row[3], usageCounts.getOrDefault(id, 0L)));
+        }
+        return entries;
+    }
+}
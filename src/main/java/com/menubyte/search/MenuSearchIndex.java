@@ -0,0 +1,298 @@
+package com.menubyte.search;
+
+import com.menubyte.dto.CategoryDTO;
+import com.menubyte.dto.ItemDTO;
+import com.menubyte.dto.MenuDTO;
+import com.menubyte.enums.VegNonVeg;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable in-memory search index over one menu snapshot.
+ *
+ * <p>Item name, category and description are tokenised into a sorted term dictionary (exact and prefix
+ * lookups via {@link TreeMap#subMap}) and a trigram index used to find candidates for typo-tolerant
+ * matching, which is then confirmed with a bounded edit distance. Every query token must match
+ * (exactly, as a prefix, or within the edit bound) for an item to be returned.</p>
+ */
+public final class MenuSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.7;
+    private static final double FUZZY = 0.5;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final List<Document> documents;
+    private final NavigableMap<String, List<Posting>> terms;
+    private final Map<String, List<String>> trigrams;
+
+    private MenuSearchIndex(List<Document> documents) {
+        this.documents = documents;
+        this.terms = new TreeMap<>();
+        this.trigrams = new HashMap<>();
+        for (int i = 0; i < documents.size(); i++) {
+            Document document = documents.get(i);
+            // Keep the best field weight per term and document
+            Map<String, Integer> weights = new HashMap<>();
+            document.nameTokens.forEach(token -> weights.merge(token, NAME_WEIGHT, Math::max));
+            document.categoryTokens.forEach(token -> weights.merge(token, CATEGORY_WEIGHT, Math::max));
+            document.descriptionTokens.forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Math::max));
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), term -> new ArrayList<>()).add(new Posting(i, entry.getValue()));
+            }
+        }
+        for (String term : terms.keySet()) {
+            for (String trigram : trigramsOf(term)) {
+                trigrams.computeIfAbsent(trigram, key -> new ArrayList<>()).add(term);
+            }
+        }
+    }
+
+    public static MenuSearchIndex build(MenuDTO menu) {
+        return update(null, menu, null);
+    }
+
+    /**
+     * Builds an index for a newer snapshot of the same menu, re-tokenising only the changed items
+     * ({@code null} means all). Unchanged items reuse their tokens from this index.
+     */
+    public MenuSearchIndex update(MenuDTO menu, Set<Long> changedItemIds) {
+        return update(this, menu, changedItemIds);
+    }
+
+    private static MenuSearchIndex update(MenuSearchIndex previous, MenuDTO menu, Set<Long> changedItemIds) {
+        Map<Long, Document> reusable = new HashMap<>();
+        if (previous != null && changedItemIds != null) {
+            for (Document document : previous.documents) {
+                if (!changedItemIds.contains(document.item.getId())) {
+                    reusable.put(document.item.getId(), document);
+                }
+            }
+        }
+        List<Document> documents = new ArrayList<>();
+        if (menu.getCategories() != null) {
+            for (CategoryDTO category : menu.getCategories()) {
+                if (category.getItems() == null) {
+                    continue;
+                }
+                for (ItemDTO item : category.getItems()) {
+                    Document document = reusable.get(item.getId());
+                    // Reuse only if the item did not move to another category
+                    if (document == null || !Objects.equals(document.categoryId, category.getId())) {
+                        document = new Document(item, category.getId(), category.getCategoryName());
+                    } else if (document.item != item) {
+                        document = document.withItem(item);
+                    }
+                    documents.add(document);
+                }
+            }
+        }
+        return new MenuSearchIndex(documents);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Returns items matching every token of {@code query}, best first.
+     *
+     * @param vegOrNonVeg optional filter
+     * @param available   optional filter on item availability
+     */
+    public List<Hit> search(String query, VegNonVeg vegOrNonVeg, Boolean available, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        double[] scores = new double[documents.size()];
+        int[] matchedTokens = new int[documents.size()];
+        for (String token : tokens) {
+            Map<Integer, Double> tokenScores = scoreToken(token);
+            for (Map.Entry<Integer, Double> entry : tokenScores.entrySet()) {
+                scores[entry.getKey()] += entry.getValue();
+                matchedTokens[entry.getKey()]++;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            Document document = documents.get(i);
+            if (matchedTokens[i] < tokens.size()
+                    || (vegOrNonVeg != null && document.item.getVegOrNonVeg() != vegOrNonVeg)
+                    || (available != null && document.item.isItemAvailability() != available)) {
+                continue;
+            }
+            hits.add(new Hit(document.item, document.categoryId, document.categoryName, scores[i]));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                .thenComparing(hit -> !hit.getItem().isBestseller())
+                .thenComparing(hit -> hit.getItem().getItemName(), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /** Best score per document for one query token: exact, then prefix, then within the edit bound. */
+    private Map<Integer, Double> scoreToken(String token) {
+        Map<Integer, Double> best = new HashMap<>();
+        addPostings(best, terms.get(token), EXACT);
+        for (Map.Entry<String, List<Posting>> entry
+                : terms.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+            addPostings(best, entry.getValue(), PREFIX);
+        }
+        int maxDistance = token.length() < 4 ? 0 : token.length() <= 6 ? 1 : 2;
+        if (maxDistance > 0) {
+            Set<String> candidates = new HashSet<>();
+            for (String trigram : trigramsOf(token)) {
+                candidates.addAll(trigrams.getOrDefault(trigram, Collections.emptyList()));
+            }
+            for (String candidate : candidates) {
+                if (candidate.equals(token) || candidate.startsWith(token)) {
+                    continue;
+                }
+                int distance = boundedDistance(token, candidate, maxDistance);
+                if (distance > 0) {
+                    addPostings(best, terms.get(candidate), FUZZY / distance);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static void addPostings(Map<Integer, Double> best, List<Posting> postings, double matchScore) {
+        if (postings == null) {
+            return;
+        }
+        for (Posting posting : postings) {
+            best.merge(posting.document, matchScore * posting.weight, Math::max);
+        }
+    }
+
+    /**
+     * Levenshtein distance if it is at most {@code max}, otherwise -1.
+     * Only a band of width {@code 2 * max + 1} around the diagonal is computed.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return -1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - max);
+            int to = Math.min(b.length(), i + max);
+            Arrays.fill(current, max + 1);
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= max ? previous[b.length()] : -1;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        String padded = "^" + term + "$";
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    private static final class Document {
+        private final ItemDTO item;
+        private final Long categoryId;
+        private final String categoryName;
+        private final List<String> nameTokens;
+        private final List<String> categoryTokens;
+        private final List<String> descriptionTokens;
+
+        private Document(ItemDTO item, Long categoryId, String categoryName) {
+            this(item, categoryId, categoryName, tokenize(item.getItemName()), tokenize(categoryName),
+                    tokenize(item.getItemDescription()));
+        }
+
+        private Document(ItemDTO item, Long categoryId, String categoryName, List<String> nameTokens,
+                         List<String> categoryTokens, List<String> descriptionTokens) {
+            this.item = item;
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.nameTokens = nameTokens;
+            this.categoryTokens = categoryTokens;
+            this.descriptionTokens = descriptionTokens;
+        }
+
+        /** Same tokens, newer item data (e.g. availability changed in the snapshot). */
+        private Document withItem(ItemDTO newer) {
+            return new Document(newer, categoryId, categoryName, nameTokens, categoryTokens, descriptionTokens);
+        }
+    }
+
+    private static final class Posting {
+        private final int document;
+        private final int weight;
+
+        private Posting(int document, int weight) {
+            this.document = document;
+            this.weight = weight;
+        }
+    }
+
+    /** One search result. */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Hit {
+        private final ItemDTO item;
+        private final Long categoryId;
+        private final String categoryName;
+        private final double score;
+    }
+}
@@ -0,0 +1,157 @@
+package com.menubyte.search;
+
+import com.menubyte.cache.CacheInvalidationBus;
+import com.menubyte.cache.MenuSnapshotCache;
+import com.menubyte.dto.MenuDTO;
+import com.menubyte.dto.MenuSearchResponse;
+import com.menubyte.enums.VegNonVeg;
+import com.menubyte.event.ItemAvailabilityChangedEvent;
+import com.menubyte.event.MenuChangedEvent;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
+import com.menubyte.service.MenuService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves customer menu search from a per-business {@link MenuSearchIndex} built from the menu snapshot cache.
+ *
+ * <p>Menu events only record which items changed; the index is brought up to date on the next search,
+ * re-tokenising just those items. Lives outside {@code com.menubyte.service} so the per-call logging
+ * aspect stays off this hot path.</p>
+ */
+@Slf4j
+@Service
+public class MenuSearchService {
+
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final MenuService menuService;
+    private final int maxResults;
+    private final Timer searchTimer;
+
+    private final Map<Long, MenuSearchIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<Long, PendingChanges> pendingChanges = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> buildLocks = new ConcurrentHashMap<>();
+
+    public MenuSearchService(MenuSnapshotCache menuSnapshotCache,
+                             MenuService menuService,
+                             MeterRegistry meterRegistry,
+                             @Value("${menubyte.search.max-results:50}") int maxResults) {
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.menuService = menuService;
+        this.maxResults = maxResults;
+        this.searchTimer = meterRegistry.timer("menubyte.menu.search.duration");
+        meterRegistry.gaugeMapSize("menubyte.menu.search.indexes", List.of(), indexes);
+    }
+
+    public MenuSearchResponse search(Long businessId, String query, VegNonVeg vegOrNonVeg, Boolean available, int limit) {
+        MenuSearchIndex index = currentIndex(businessId);
+        long startedAt = System.nanoTime();
+        List<MenuSearchIndex.Hit> hits = index.search(query, vegOrNonVeg, available, Math.min(limit, maxResults));
+        long tookNanos = System.nanoTime() - startedAt;
+        searchTimer.record(tookNanos, TimeUnit.NANOSECONDS);
+        log.debug("menu_search businessId={} hits={} tookMicros={}", businessId, hits.size(), tookNanos / 1000);
+        return new MenuSearchResponse(businessId, query, hits.size(), tookNanos / 1000, hits);
+    }
+
+    /**
+     * Applies pending item changes under a per-business lock, so concurrent searches build once. The snapshot
+     * may come from the database, so it is loaded outside {@code indexes}' own locking: searches for other
+     * businesses never wait on it. A {@link ReentrantLock} rather than {@code synchronized}, so a virtual
+     * thread waiting on the load does not pin its carrier.
+     */
+    private MenuSearchIndex currentIndex(Long businessId) {
+        MenuSearchIndex index = indexes.get(businessId);
+        if (index != null && !pendingChanges.containsKey(businessId)) {
+            return index;
+        }
+        ReentrantLock lock = buildLocks.computeIfAbsent(businessId, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            MenuSearchIndex current = indexes.get(businessId);
+            PendingChanges changes = pendingChanges.remove(businessId);
+            if (current != null && changes == null) {
+                // Brought up to date by the search we waited for
+                return current;
+            }
+            try {
+                MenuDTO snapshot = menuSnapshotCache.get(businessId, () -> menuService.loadMenuSnapshot(businessId));
+                long startedAt = System.nanoTime();
+                boolean full = current == null || changes.allItems;
+                MenuSearchIndex rebuilt = full ? MenuSearchIndex.build(snapshot) : current.update(snapshot, changes.itemIds);
+                indexes.put(businessId, rebuilt);
+                log.info("menu_search_index_built businessId={} items={} changed={} tookMicros={}", businessId,
+                        rebuilt.size(), full ? "all" : changes.itemIds.size(), (System.nanoTime() - startedAt) / 1000);
+                return rebuilt;
+            } catch (RuntimeException e) {
+                // Keep the changes for the next search instead of serving a stale index forever
+                if (changes != null) {
+                    markChanged(businessId, changes.allItems ? null : changes.itemIds);
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Builds (or brings up to date) the business's index ahead of its first search. */
+    public void warm(Long businessId) {
+        currentIndex(businessId);
+    }
+
+    // Ordered after the snapshot cache's listeners, so the next search reloads an already refreshed snapshot
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        markChanged(event.getBusinessId(), event.getItemIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(ItemAvailabilityChangedEvent event) {
+        markChanged(event.getBusinessId(), event.getItemIds());
+    }
+
+    // Remote messages carry no item IDs, so the next search rebuilds the whole index
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidationEvent event) {
+        if (!CacheInvalidationBus.MENU.equals(event.getCacheName())) {
+            return;
+        }
+        if (event.isAllKeys()) {
+            indexes.keySet().forEach(businessId -> markChanged(businessId, null));
+        } else {
+            markChanged(event.keyAsId(), null);
+        }
+    }
+
+    /** An empty item list means "anything may have changed" and forces a full rebuild. */
+    private void markChanged(Long businessId, Collection<Long> itemIds) {
+        pendingChanges.compute(businessId, (key, changes) -> {
+            PendingChanges updated = changes == null ? new PendingChanges() : changes;
+            if (itemIds == null || itemIds.isEmpty()) {
+                updated.allItems = true;
+            } else {
+                updated.itemIds.addAll(itemIds);
+            }
+            return updated;
+        });
+    }
+
+    private static final class PendingChanges {
+        private final Set<Long> itemIds = new HashSet<>();
+        private boolean allItems;
+    }
+}
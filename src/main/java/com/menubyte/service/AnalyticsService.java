@@ -2,26 +2,44 @@ package com.menubyte.service;
 
 import com.menubyte.dto.AnalyticsResponseDTO;
 import com.menubyte.dto.DailySalesDTO;
+import com.menubyte.dto.SalesForecastDTO;
 import com.menubyte.dto.TopSellingItemDTO;
 import com.menubyte.repository.OrderRepository;
+import com.menubyte.repository.SalesForecastRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class AnalyticsService {
 
     private final OrderRepository orderRepository;
+    private final SalesForecastRepository salesForecastRepository;
 
     @Autowired
-    public AnalyticsService(OrderRepository orderRepository) {
+    public AnalyticsService(OrderRepository orderRepository, SalesForecastRepository salesForecastRepository) {
         this.orderRepository = orderRepository;
+        this.salesForecastRepository = salesForecastRepository;
     }
 
+    /**
+     * Returns the forecast stored by the nightly batch, if one exists.
+     * Reads only the table, so it works on instances where forecasting is disabled. Mapped to a DTO inside
+     * the transaction so the entity never reaches the JSON serializer.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SalesForecastDTO> getSalesForecast(Long businessId) {
+        return salesForecastRepository.findByBusinessId(businessId).map(SalesForecastDTO::new);
+    }
+
+    /** Read-only, so it runs on the read replica when one is configured. */
+    @Transactional(readOnly = true)
     public AnalyticsResponseDTO getSalesAnalytics(Long businessId, String period) {
         LocalDateTime startDateTime;
         LocalDate endDate = LocalDate.now();
@@ -6,45 +6,117 @@
  */
 package com.menubyte.service;
 
+import com.menubyte.cache.SubscriptionEntitlements;
+import com.menubyte.dto.AdminBusinessPage;
+import com.menubyte.dto.AdminBusinessRow;
+import com.menubyte.dto.BusinessMasterDTO;
 import com.menubyte.entity.BusinessMaster;
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.enums.SubscriptionType;
 import com.menubyte.repository.BusinessMasterRepository;
 import com.menubyte.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class BusinessMasterService {
 
+    private static final int MAX_ADMIN_PAGE_SIZE = 200;
+    // API sort keys -> JPQL paths in BusinessMasterRepository.findAdminRows
+    private static final Map<String, String> ADMIN_SORT_PROPERTIES = Map.of(
+            "endDate", "endDate",
+            "registerDate", "registerDate",
+            "amountPaid", "amountPaid",
+            "subscriptionType", "subscriptionType",
+            "subscriptionStatus", "subscriptionStatus",
+            "businessName", "b.businessName",
+            "username", "u.username");
+
     private final BusinessMasterRepository businessMasterRepository;
     private final UserRepository userRepository;
+    private final SubscriptionEntitlements subscriptionEntitlements;
 
-    public BusinessMasterService(BusinessMasterRepository businessMasterRepository, UserRepository userRepository) {
+    public BusinessMasterService(BusinessMasterRepository businessMasterRepository, UserRepository userRepository,
+                                 SubscriptionEntitlements subscriptionEntitlements) {
         this.businessMasterRepository = businessMasterRepository;
         this.userRepository = userRepository;
+        this.subscriptionEntitlements = subscriptionEntitlements;
     }
 
     /**
      * Register a business for a user.
      * @param businessMaster Business details.
-     * @return Registered BusinessMaster object.
+     * @return Registered BusinessMaster record.
      */
-    public BusinessMaster registerBusiness(BusinessMaster businessMaster) {
+    public BusinessMasterDTO registerBusiness(BusinessMaster businessMaster) {
         log.info("Registering business: {}", businessMaster);
-        return businessMasterRepository.save(businessMaster);
+        return new BusinessMasterDTO(businessMasterRepository.save(businessMaster));
     }
 
     /**
      * Get all registered businesses (Admin View).
      * @return List of all registered businesses.
      */
-    public List<BusinessMaster> getAllRegisteredBusinesses() {
+    public List<BusinessMasterDTO> getAllRegisteredBusinesses() {
         log.info("Fetching all registered businesses");
-        return businessMasterRepository.findAll();
+        return businessMasterRepository.findAllWithUserAndBusiness().stream()
+                .map(BusinessMasterDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Paginated admin listing with optional filters, plus subscription counts by plan over all tenants.
+     * @param status Subscription status filter, or null.
+     * @param type Subscription type filter, or null.
+     * @param endFrom Earliest end date (inclusive), or null.
+     * @param endTo Latest end date (inclusive), or null.
+     * @param page Zero-based page number.
+     * @param size Page size, capped at 200.
+     * @param sortBy One of endDate, registerDate, amountPaid, subscriptionType, subscriptionStatus, businessName, username.
+     * @param direction ASC or DESC.
+     * @return The requested page and the counts header.
+     */
+    @Transactional(readOnly = true)
+    public AdminBusinessPage getAdminBusinesses(SubscriptionStatus status, SubscriptionType type,
+                                                LocalDate endFrom, LocalDate endTo,
+                                                int page, int size, String sortBy, Sort.Direction direction) {
+        String sortProperty = ADMIN_SORT_PROPERTIES.get(sortBy);
+        if (sortProperty == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sort property: " + sortBy);
+        }
+        if (page < 0 || size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must be >= 0 and size >= 1.");
+        }
+        if (endFrom != null && endTo != null && endFrom.isAfter(endTo)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endFrom must not be after endTo.");
+        }
+        // Tie-break on the id so rows don't move between pages
+        Sort sort = Sort.by(direction, sortProperty).and(Sort.by(Sort.Direction.ASC, "id"));
+        Page<AdminBusinessRow> rows = businessMasterRepository.findAdminRows(status, type, endFrom, endTo,
+                PageRequest.of(page, Math.min(size, MAX_ADMIN_PAGE_SIZE), sort));
+
+        Map<String, Map<String, Long>> countsByPlan = new TreeMap<>();
+        for (Object[] row : businessMasterRepository.countBySubscriptionTypeAndStatus()) {
+            String planType = row[0] != null ? row[0].toString() : "NONE";
+            String planStatus = row[1] != null ? row[1].toString() : "NONE";
+            countsByPlan.computeIfAbsent(planType, key -> new TreeMap<>()).merge(planStatus, (Long) row[2], Long::sum);
+        }
+        return new AdminBusinessPage(rows.getContent(), rows.getNumber(), rows.getSize(),
+                rows.getTotalElements(), rows.getTotalPages(), countsByPlan);
     }
 
     /**
@@ -52,9 +124,11 @@ public class BusinessMasterService {
      * @param userId User ID.
      * @return List of businesses owned by the user.
      */
-    public List<BusinessMaster> getBusinessesByUser(Long userId) {
+    public List<BusinessMasterDTO> getBusinessesByUser(Long userId) {
         log.info("Fetching businesses for user ID: {}", userId);
-        return businessMasterRepository.findByUserId(userId);
+        return businessMasterRepository.findWithUserAndBusinessByUserId(userId).stream()
+                .map(BusinessMasterDTO::new)
+                .collect(Collectors.toList());
     }
     public BusinessMaster getBusinessesByBusinessID(Long businessID) {
         log.info("Fetching businesses for user ID: {}", businessID);
@@ -65,11 +139,11 @@ public class BusinessMasterService {
      * Update subscription details.
      * @param id Business ID.
      * @param updatedDetails Updated subscription details.
-     * @return Updated BusinessMaster object.
+     * @return Updated BusinessMaster record.
      */
-    public BusinessMaster updateSubscription(Long id, BusinessMaster updatedDetails) {
+    public BusinessMasterDTO updateSubscription(Long id, BusinessMaster updatedDetails) {
         log.info("Updating subscription for business ID: {}", id);
-        BusinessMaster existingBusiness = businessMasterRepository.findById(id)
+        BusinessMaster existingBusiness = businessMasterRepository.findWithUserAndBusinessById(id)
                 .orElseThrow(() -> new RuntimeException("Business Master entry not found"));
 
         existingBusiness.setEndDate(updatedDetails.getEndDate());
@@ -77,8 +151,10 @@ public class BusinessMasterService {
         existingBusiness.setSubscriptionStatus(updatedDetails.getSubscriptionStatus());
 
         BusinessMaster updatedBusiness = businessMasterRepository.save(existingBusiness);
+        subscriptionEntitlements.refresh(updatedBusiness);
         log.info("Updated subscription details: {}", updatedBusiness);
-        return updatedBusiness;
+        // save() merged into a copy whose user and business are proxies; the loaded instance has them fetched
+        return new BusinessMasterDTO(existingBusiness);
     }
     /**
      * Delete a business by ID.
@@ -97,6 +173,7 @@ public class BusinessMasterService {
         } else {
             try {
                 businessMasterRepository.deleteById(businessOptional.getId());
+                subscriptionEntitlements.evict(businessId);
             } catch (Exception e) {
                 log.error("Error deleting business with ID {}: {}", businessId, e.getMessage());
                 throw new RuntimeException("Failed to delete business: " + e.getMessage());
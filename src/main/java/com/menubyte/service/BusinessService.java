@@ -8,9 +8,11 @@ package com.menubyte.service;
 
 import com.menubyte.dto.BusinessDTO;
 import com.menubyte.entity.Business;
+import com.menubyte.cache.SubscriptionEntitlements;
 import com.menubyte.entity.BusinessMaster;
 import com.menubyte.entity.Menu;
 import com.menubyte.entity.User;
+import com.menubyte.event.MenuChangedEvent;
 import com.menubyte.enums.SubscriptionStatus;
 import com.menubyte.enums.SubscriptionType;
 import com.menubyte.exception.BusinessCountException;
@@ -21,6 +23,7 @@ import com.menubyte.repository.MenuRepository;
 import com.menubyte.repository.UserRepository;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -37,15 +40,20 @@ public class BusinessService {
     private final MenuRepository menuRepository ;
     private final BusinessMasterRepository businessMasterRepository ;
     private final BusinessMasterService businessMasterService ;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SubscriptionEntitlements subscriptionEntitlements;
 
 
 
-    public BusinessService(BusinessRepository businessRepository, UserRepository userRepository, MenuRepository menuRepository,BusinessMasterRepository businessMasterRepository,BusinessMasterService businessMasterService) {
+    public BusinessService(BusinessRepository businessRepository, UserRepository userRepository, MenuRepository menuRepository,BusinessMasterRepository businessMasterRepository,BusinessMasterService businessMasterService,
+                           ApplicationEventPublisher eventPublisher, SubscriptionEntitlements subscriptionEntitlements) {
         this.businessRepository = businessRepository;
         this.userRepository = userRepository;
         this.menuRepository = menuRepository;
         this.businessMasterRepository=businessMasterRepository;
         this.businessMasterService=businessMasterService;
+        this.eventPublisher = eventPublisher;
+        this.subscriptionEntitlements = subscriptionEntitlements;
     }
 
 
@@ -91,6 +99,8 @@ public class BusinessService {
         existingBusiness.setBusinessLogo(updatedBusiness.getBusinessLogo());
         existingBusiness.setTagline(updatedBusiness.getTagline());
         Business updated = businessRepository.save(existingBusiness);
+        // The business name is part of the cached menu snapshot
+        eventPublisher.publishEvent(new MenuChangedEvent(id, null));
         log.info("Business updated successfully: {}", updated);
         return updated;
     }
@@ -105,6 +115,7 @@ public class BusinessService {
         businessMasterService.deleteBusiness(id);
 
         businessRepository.delete(business);
+        eventPublisher.publishEvent(new MenuChangedEvent(id, null));
         log.info("Business deleted successfully with ID: {}", id);
     }
     // In BusinessService.java
@@ -131,14 +142,15 @@ public class BusinessService {
         businessMaster.setSubscriptionType(SubscriptionType.TRIAL);
         businessMaster.setRegisterDate(LocalDate.now());
         businessMaster.setEndDate(LocalDate.now().plusWeeks(1));
-        businessMasterRepository.save(businessMaster);
+        subscriptionEntitlements.refresh(businessMasterRepository.save(businessMaster));
         return savedBusiness;
     }
 
     private void checkBusinessCountAsPerSubscriptionType(long userId) {
-        List<BusinessMaster> businessMasterList=businessMasterRepository.findByUserId(userId);
-        if(businessMasterList.size()>0) {
-            if (businessMasterList.size() == 1 && businessMasterList.get(0).getSubscriptionType().name().equalsIgnoreCase(String.valueOf(SubscriptionType.TRIAL))) {
+        // Deliberately not served from SubscriptionEntitlements: a stale answer here would let a trial add businesses
+        List<SubscriptionType> subscriptionTypes=businessMasterRepository.findSubscriptionTypesByUserId(userId);
+        if(subscriptionTypes.size()>0) {
+            if (subscriptionTypes.size() == 1 && subscriptionTypes.get(0) == SubscriptionType.TRIAL) {
                 throw new BusinessCountException("Can not add more than 1 business in Trial version.Buy subscription to proceed.");
             }
 
@@ -3,8 +3,11 @@ package com.menubyte.service;
 import com.menubyte.entity.Category;
 import com.menubyte.entity.MasterCategory;
 import com.menubyte.entity.Menu;
+import com.menubyte.event.MenuChangedEvent;
 import com.menubyte.repository.CategoryRepository;
+import com.menubyte.repository.MenuRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,8 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final MasterCategoryService masterCategoryService; // Dependency for managing MasterCategory entities
+    private final ApplicationEventPublisher eventPublisher; // Notifies menu caches of category changes
+    private final MenuRepository menuRepository; // Bumps the menu's content version on category changes
 
     /**
      * Constructor for CategoryService, injecting required dependencies.
@@ -26,10 +31,15 @@ public class CategoryService {
      *
      * @param categoryRepository    The repository for Category entities.
      * @param masterCategoryService The service for MasterCategory entities.
+     * @param eventPublisher        Publishes {@link MenuChangedEvent} after category changes.
+     * @param menuRepository        Bumps the menu's content version when its categories change.
      */
-    public CategoryService(CategoryRepository categoryRepository, MasterCategoryService masterCategoryService) {
+    public CategoryService(CategoryRepository categoryRepository, MasterCategoryService masterCategoryService,
+                           ApplicationEventPublisher eventPublisher, MenuRepository menuRepository) {
         this.categoryRepository = categoryRepository;
         this.masterCategoryService = masterCategoryService;
+        this.eventPublisher = eventPublisher;
+        this.menuRepository = menuRepository;
     }
 
     /**
@@ -74,6 +84,8 @@ public class CategoryService {
 
         // Use the generic saveCategory method internally to persist the newly constructed category
         Category savedCategory = this.saveCategory(newCategory);
+        Long contentVersion = menuRepository.incrementContentVersion(menu.getId(), null);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu.getBusiness().getId(), null, contentVersion));
         log.info("New category created successfully with ID: {} for Menu ID: {}", savedCategory.getId(), menu.getId());
         return savedCategory;
     }
@@ -170,6 +182,9 @@ public class CategoryService {
 
         // Use the generic saveCategory method to persist the changes
         Category updated = this.saveCategory(existingCategory);
+        Long contentVersion = menuRepository.incrementContentVersion(existingCategory.getMenu().getId(), null);
+        eventPublisher.publishEvent(new MenuChangedEvent(existingCategory.getMenu().getBusiness().getId(), null,
+                contentVersion));
         log.info("Category with ID: {} updated successfully.", updated.getId());
         return updated;
     }
@@ -184,11 +199,15 @@ public class CategoryService {
     public void deleteCategory(Long categoryId) {
         log.info("Attempting to delete category with ID: {}", categoryId);
         // Check if the category exists before attempting to delete it.
-        if (!categoryRepository.existsById(categoryId)) {
-            log.error("Category not found with ID: {} for deletion.", categoryId);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Category not found with ID: " + categoryId);
-        }
-        categoryRepository.deleteById(categoryId); // Perform the deletion
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> {
+                    log.error("Category not found with ID: {} for deletion.", categoryId);
+                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "Category not found with ID: " + categoryId);
+                });
+        Long businessId = category.getMenu().getBusiness().getId();
+        categoryRepository.delete(category); // Perform the deletion
+        Long contentVersion = menuRepository.incrementContentVersion(category.getMenu().getId(), null);
+        eventPublisher.publishEvent(new MenuChangedEvent(businessId, null, contentVersion));
         log.info("Category with ID: {} deleted successfully.", categoryId);
     }
     public Optional<Category> findByMenuAndCategoryDescription(Menu menu, String categoryDescription) {
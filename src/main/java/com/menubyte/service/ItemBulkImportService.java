@@ -0,0 +1,336 @@
+package com.menubyte.service;
+
+import com.menubyte.dto.BulkImportReport;
+import com.menubyte.dto.ItemDetailDTO;
+import com.menubyte.dto.ItemCreationRequest;
+import com.menubyte.entity.Business;
+import com.menubyte.entity.Category;
+import com.menubyte.entity.Item;
+import com.menubyte.entity.MasterCategory;
+import com.menubyte.entity.MasterItem;
+import com.menubyte.entity.Menu;
+import com.menubyte.event.MasterCatalogChangedEvent;
+import com.menubyte.event.MenuChangedEvent;
+import com.menubyte.repository.CategoryRepository;
+import com.menubyte.repository.ItemRepository;
+import com.menubyte.repository.MasterCategoryRepository;
+import com.menubyte.repository.MasterItemRepository;
+import com.menubyte.repository.MenuRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based bulk item import.
+ * The business, menu, the menu's categories and the referenced master data are loaded once into maps;
+ * missing categories, master categories and master items are created together, and all items are saved
+ * in one {@code saveAll}. The number of lookup queries depends on the number of distinct categories,
+ * not on the number of rows.
+ */
+@Slf4j
+@Service
+public class ItemBulkImportService {
+
+    private final ItemService itemService;
+    private final BusinessService businessService;
+    private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final MasterCategoryRepository masterCategoryRepository;
+    private final MasterCategoryService masterCategoryService;
+    private final MasterItemRepository masterItemRepository;
+    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ItemBulkImportService(ItemService itemService,
+                                 BusinessService businessService,
+                                 ItemRepository itemRepository,
+                                 CategoryRepository categoryRepository,
+                                 MasterCategoryRepository masterCategoryRepository,
+                                 MasterCategoryService masterCategoryService,
+                                 MasterItemRepository masterItemRepository,
+                                 MenuRepository menuRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.itemService = itemService;
+        this.businessService = businessService;
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.masterCategoryRepository = masterCategoryRepository;
+        this.masterCategoryService = masterCategoryService;
+        this.masterItemRepository = masterItemRepository;
+        this.menuRepository = menuRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Imports the rows for a business, skipping invalid rows and reporting them per row.
+     */
+    @Transactional
+    public BulkImportReport importItems(Long businessId, List<ItemCreationRequest> rows) {
+        BulkImportReport report = new BulkImportReport();
+        runImport(businessId, rows, false, report);
+        return report;
+    }
+
+    /**
+     * All-or-nothing variant used by {@code POST /api/items/bulk}: any invalid row rejects the whole
+     * request with 400 before anything is written.
+     */
+    @Transactional
+    public List<ItemDetailDTO> createItems(Long businessId, List<ItemCreationRequest> rows) {
+        // Master items and variants are already loaded or new here, so mapping issues no queries
+        return runImport(businessId, rows, true, new BulkImportReport()).stream()
+                .map(ItemDetailDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    private List<Item> runImport(Long businessId, List<ItemCreationRequest> rows, boolean failOnError,
+                                 BulkImportReport report) {
+        long startedAt = System.currentTimeMillis();
+        if (businessId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Business ID is required.");
+        }
+        if (rows == null || rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Items list cannot be empty.");
+        }
+
+        report.setTotalRows(rows.size());
+
+        Business business = businessService.getBusinessById(businessId);
+        Menu menu = itemService.findOrCreateMenuForBusiness(businessId, business);
+        List<Category> menuCategories = categoryRepository.findByMenuId(menu.getId());
+        Map<Long, Category> categoriesById = menuCategories.stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<String, Category> categoriesByDescription = menuCategories.stream()
+                .collect(Collectors.toMap(Category::getCategoryDescription, Function.identity(), (a, b) -> a));
+
+        // Pass 1: validate every row and collect what has to be looked up or created.
+        List<ResolvedRow> resolved = new ArrayList<>(rows.size());
+        Set<String> missingCategoryDescriptions = new LinkedHashSet<>();
+        Set<Long> masterItemIds = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ItemCreationRequest request = rows.get(i);
+            try {
+                resolved.add(resolveRow(i + 1, request, categoriesById, categoriesByDescription,
+                        missingCategoryDescriptions, masterItemIds));
+            } catch (ResponseStatusException e) {
+                report.getErrors().add(new BulkImportReport.RowError(i + 1,
+                        request == null ? null : request.getItemName(), e.getReason()));
+            }
+        }
+
+        Map<Long, MasterItem> masterItemsById = masterItemIds.isEmpty() ? new HashMap<>()
+                : masterItemRepository.findAllById(masterItemIds).stream()
+                        .collect(Collectors.toMap(MasterItem::getId, Function.identity()));
+        resolved.removeIf(row -> {
+            Long masterItemId = row.request.getMasterItemId();
+            if (!row.newMasterItem && masterItemId != null && !masterItemsById.containsKey(masterItemId)) {
+                report.getErrors().add(new BulkImportReport.RowError(row.rowNumber, row.request.getItemName(),
+                        "Master Item not found with ID: " + masterItemId));
+                return true;
+            }
+            return false;
+        });
+
+        if (failOnError && report.hasErrors()) {
+            BulkImportReport.RowError first = report.getErrors().get(0);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, report.getErrors().size()
+                    + " invalid row(s); row " + first.getRow() + ": " + first.getMessage());
+        }
+
+        // Pass 2: create what is missing, one batch per entity type.
+        createMissingCategories(missingCategoryDescriptions, business, menu, categoriesByDescription, report);
+        Map<String, MasterItem> newMasterItems = createMissingMasterItems(resolved, categoriesByDescription, report);
+
+        // Pass 3: build and save all items; variants cascade from the item.
+        List<Item> items = new ArrayList<>(resolved.size());
+        for (ResolvedRow row : resolved) {
+            Category category = row.category != null ? row.category
+                    : categoriesByDescription.get(row.request.getCategoryDescription());
+            MasterItem masterItem = row.newMasterItem
+                    ? newMasterItems.get(masterItemKey(category, row.request.getItemName()))
+                    : masterItemsById.get(row.request.getMasterItemId());
+            items.add(itemService.mapRequestToNewItem(row.request, category, masterItem, menu));
+        }
+        List<Item> saved = itemRepository.saveAll(items);
+
+        saved.forEach(item -> report.getCreatedItemIds().add(item.getId()));
+        if (!saved.isEmpty()) {
+            Long contentVersion = menuRepository.incrementContentVersion(menu.getId(), null);
+            eventPublisher.publishEvent(new MenuChangedEvent(businessId, report.getCreatedItemIds(), contentVersion));
+        }
+        report.setImportedRows(saved.size());
+        report.setFailedRows(report.getErrors().size());
+        report.setDurationMs(System.currentTimeMillis() - startedAt);
+        log.info("bulk_import_finished businessId={} rows={} imported={} failed={} newCategories={} newMasterItems={} durationMs={}",
+                businessId, report.getTotalRows(), report.getImportedRows(), report.getFailedRows(),
+                report.getCreatedCategories(), report.getCreatedMasterItems(), report.getDurationMs());
+        return saved;
+    }
+
+    private ResolvedRow resolveRow(int rowNumber, ItemCreationRequest request,
+                                   Map<Long, Category> categoriesById,
+                                   Map<String, Category> categoriesByDescription,
+                                   Set<String> missingCategoryDescriptions,
+                                   Set<Long> masterItemIds) {
+        itemService.validateItemCreationRequest(request);
+
+        Category category = null;
+        if (Boolean.TRUE.equals(request.getIsNewCategory())) {
+            String description = request.getCategoryDescription();
+            if (description == null || description.trim().isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "New category requires a description.");
+            }
+            category = categoriesByDescription.get(description);
+            if (category == null) {
+                missingCategoryDescriptions.add(description);
+            }
+        } else {
+            if (request.getCategoryId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Existing category ID is required.");
+            }
+            // Only categories of this business's menu are in the map, so foreign categories are rejected here.
+            category = categoriesById.get(request.getCategoryId());
+            if (category == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Category not found with ID: " + request.getCategoryId() + " in this menu.");
+            }
+        }
+
+        boolean newMasterItem = Boolean.TRUE.equals(request.getIsNewItem());
+        if (!newMasterItem && request.getMasterItemId() != null) {
+            masterItemIds.add(request.getMasterItemId());
+        }
+        return new ResolvedRow(rowNumber, request, category, newMasterItem);
+    }
+
+    private void createMissingCategories(Set<String> descriptions, Business business, Menu menu,
+                                         Map<String, Category> categoriesByDescription, BulkImportReport report) {
+        if (descriptions.isEmpty()) {
+            return;
+        }
+        Map<String, MasterCategory> masterCategories = masterCategoryRepository.findByCategoryDescriptionIn(descriptions)
+                .stream()
+                .collect(Collectors.toMap(MasterCategory::getCategoryDescription, Function.identity()));
+
+        List<MasterCategory> newMasterCategories = new ArrayList<>();
+        for (String description : descriptions) {
+            if (!masterCategories.containsKey(description)) {
+                MasterCategory masterCategory = new MasterCategory();
+                masterCategory.setCategoryDescription(description);
+                masterCategory.setBusinessType(business.getBusinessType());
+                newMasterCategories.add(masterCategory);
+            }
+        }
+        // Through the service so the cached master category lists are evicted after commit
+        masterCategoryService.saveAll(newMasterCategories)
+                .forEach(masterCategory -> masterCategories.put(masterCategory.getCategoryDescription(), masterCategory));
+
+        List<Category> newCategories = new ArrayList<>(descriptions.size());
+        for (String description : descriptions) {
+            Category category = new Category();
+            category.setCategoryDescription(description);
+            category.setMasterCategory(masterCategories.get(description));
+            category.setMenu(menu);
+            newCategories.add(category);
+        }
+        categoryRepository.saveAll(newCategories)
+                .forEach(category -> categoriesByDescription.put(category.getCategoryDescription(), category));
+
+        report.setCreatedMasterCategories(newMasterCategories.size());
+        report.setCreatedCategories(newCategories.size());
+    }
+
+    /**
+     * Finds or creates the master items for rows flagged {@code isNewItem}, reusing an existing master item
+     * with the same name in the same master category instead of adding a duplicate.
+     */
+    private Map<String, MasterItem> createMissingMasterItems(List<ResolvedRow> rows,
+                                                             Map<String, Category> categoriesByDescription,
+                                                             BulkImportReport report) {
+        Map<String, ResolvedRow> wanted = new LinkedHashMap<>();
+        Set<Long> masterCategoryIds = new HashSet<>();
+        for (ResolvedRow row : rows) {
+            if (!row.newMasterItem) {
+                continue;
+            }
+            Category category = row.category != null ? row.category
+                    : categoriesByDescription.get(row.request.getCategoryDescription());
+            wanted.putIfAbsent(masterItemKey(category, row.request.getItemName()), row);
+            if (category.getMasterCategory() != null) {
+                masterCategoryIds.add(category.getMasterCategory().getId());
+            }
+        }
+        Map<String, MasterItem> masterItems = new HashMap<>();
+        if (wanted.isEmpty()) {
+            return masterItems;
+        }
+        if (!masterCategoryIds.isEmpty()) {
+            for (MasterItem existing : masterItemRepository.findByMasterCategory_IdIn(masterCategoryIds)) {
+                masterItems.put(masterItemKey(existing.getMasterCategory(), existing.getItemName()), existing);
+            }
+        }
+
+        List<MasterItem> newMasterItems = new ArrayList<>();
+        for (Map.Entry<String, ResolvedRow> entry : wanted.entrySet()) {
+            if (masterItems.containsKey(entry.getKey())) {
+                continue;
+            }
+            ItemCreationRequest request = entry.getValue().request;
+            Category category = entry.getValue().category != null ? entry.getValue().category
+                    : categoriesByDescription.get(request.getCategoryDescription());
+            MasterItem masterItem = new MasterItem();
+            masterItem.setItemName(request.getItemName());
+            masterItem.setItemDescription(request.getItemDescription());
+            masterItem.setItemImage(request.getItemImage());
+            masterItem.setMasterCategory(category.getMasterCategory());
+            newMasterItems.add(masterItem);
+            masterItems.put(entry.getKey(), masterItem);
+        }
+        // saveAll assigns ids to the same instances that are already in the map
+        masterItemRepository.saveAll(newMasterItems);
+        report.setCreatedMasterItems(newMasterItems.size());
+        if (!newMasterItems.isEmpty()) {
+            eventPublisher.publishEvent(new MasterCatalogChangedEvent(
+                    newMasterItems.stream().map(MasterItem::getId).collect(Collectors.toList())));
+        }
+        return masterItems;
+    }
+
+    private static String masterItemKey(Category category, String itemName) {
+        return masterItemKey(category.getMasterCategory(), itemName);
+    }
+
+    private static String masterItemKey(MasterCategory masterCategory, String itemName) {
+        Long masterCategoryId = masterCategory == null ? null : masterCategory.getId();
+        return masterCategoryId + "|" + itemName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class ResolvedRow {
+        private final int rowNumber;
+        private final ItemCreationRequest request;
+        private final Category category;
+        private final boolean newMasterItem;
+
+        private ResolvedRow(int rowNumber, ItemCreationRequest request, Category category, boolean newMasterItem) {
+            this.rowNumber = rowNumber;
+            this.request = request;
+            this.category = category;
+            this.newMasterItem = newMasterItem;
+        }
+    }
+}
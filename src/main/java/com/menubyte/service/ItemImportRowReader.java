@@ -0,0 +1,226 @@
+package com.menubyte.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menubyte.dto.ItemCreationRequest;
+import com.menubyte.dto.ItemVariantDto;
+import com.menubyte.enums.VegNonVeg;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an item import file one row at a time, so the file is never held in memory.
+ *
+ * <p>Formats:</p>
+ * <ul>
+ *     <li>{@code jsonl}: one {@link ItemCreationRequest} JSON object per line.</li>
+ *     <li>{@code csv}: header row with {@link ItemCreationRequest} field names (any order, case-insensitive).
+ *     Variants go in a {@code variants} column as {@code Half:120|Full:220}; a plain {@code itemPrice}
+ *     column becomes a single "Regular" variant. Quoted fields may contain commas but not line breaks.</li>
+ * </ul>
+ */
+class ItemImportRowReader implements Closeable {
+
+    static final String CSV = "csv";
+    static final String JSON_LINES = "jsonl";
+
+    private final BufferedReader reader;
+    private final String format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvColumns;
+    private int rowNumber;
+
+    ItemImportRowReader(BufferedReader reader, String format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /** Returns the next data row, or {@code null} at end of file. Blank lines are skipped and not counted. */
+    Row next() throws IOException {
+        if (CSV.equals(format) && csvColumns == null) {
+            String header = nextNonBlankLine();
+            if (header == null) {
+                return null;
+            }
+            csvColumns = parseHeader(header);
+        }
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        rowNumber++;
+        try {
+            ItemCreationRequest request = CSV.equals(format)
+                    ? parseCsvRow(line)
+                    : objectMapper.readValue(line, ItemCreationRequest.class);
+            return new Row(rowNumber, request, null);
+        } catch (JsonProcessingException e) {
+            return new Row(rowNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new Row(rowNumber, null, e.getMessage());
+        }
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Integer> parseHeader(String header) {
+        List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("itemname")) {
+            throw new IllegalArgumentException("CSV header must contain an itemName column.");
+        }
+        return columns;
+    }
+
+    private ItemCreationRequest parseCsvRow(String line) {
+        List<String> values = splitCsv(line);
+        ItemCreationRequest request = new ItemCreationRequest();
+        request.setItemName(text(values, "itemname"));
+        request.setItemDescription(text(values, "itemdescription"));
+        request.setItemImage(text(values, "itemimage"));
+        request.setCategoryDescription(text(values, "categorydescription"));
+        request.setItemDiscount(number(values, "itemdiscount", 0.0));
+        request.setItemPrice(number(values, "itemprice", null));
+        request.setItemAvailability(bool(values, "itemavailability"));
+        request.setBestseller(bool(values, "bestseller"));
+        request.setIsNewCategory(bool(values, "isnewcategory"));
+        request.setIsNewItem(bool(values, "isnewitem"));
+        request.setCategoryId(id(values, "categoryid"));
+        request.setMasterItemId(id(values, "masteritemid"));
+        String vegOrNonVeg = text(values, "vegornonveg");
+        if (vegOrNonVeg != null) {
+            try {
+                request.setVegOrNonVeg(VegNonVeg.valueOf(vegOrNonVeg.toUpperCase(Locale.ROOT).replace('-', '_')));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Column vegOrNonVeg must be VEG or NON_VEG: " + vegOrNonVeg);
+            }
+        }
+        request.setVariants(variants(text(values, "variants"), request.getItemPrice()));
+        return request;
+    }
+
+    private List<ItemVariantDto> variants(String column, Double itemPrice) {
+        List<ItemVariantDto> variants = new ArrayList<>();
+        if (column != null) {
+            for (String part : column.split("\\|")) {
+                int separator = part.lastIndexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Variant '" + part + "' must look like Name:price.");
+                }
+                variants.add(new ItemVariantDto(part.substring(0, separator).trim(),
+                        parseDouble(part.substring(separator + 1), "variant price")));
+            }
+        } else if (itemPrice != null) {
+            variants.add(new ItemVariantDto("Regular", itemPrice));
+        }
+        return variants;
+    }
+
+    private String text(List<String> values, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Double number(List<String> values, String column, Double defaultValue) {
+        String value = text(values, column);
+        return value == null ? defaultValue : parseDouble(value, column);
+    }
+
+    private Long id(List<String> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Column " + column + " must be a whole number: " + value);
+        }
+    }
+
+    private Boolean bool(List<String> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        return "true".equalsIgnoreCase(value) || "yes".equalsIgnoreCase(value) || "1".equals(value);
+    }
+
+    private static Double parseDouble(String value, String column) {
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Column " + column + " must be a number: " + value.trim());
+        }
+    }
+
+    /** Splits one CSV line, honouring double quotes and "" escapes. */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /** A parsed row: either a request or the reason it could not be parsed. */
+    static final class Row {
+        final int number;
+        final ItemCreationRequest request;
+        final String error;
+
+        Row(int number, ItemCreationRequest request, String error) {
+            this.number = number;
+            this.request = request;
+            this.error = error;
+        }
+    }
+}
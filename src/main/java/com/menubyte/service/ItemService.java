@@ -1,12 +1,18 @@
 package com.menubyte.service;
 
+import com.menubyte.dto.ItemAvailabilityResponse;
 import com.menubyte.dto.ItemCreationRequest;
+import com.menubyte.dto.ItemDetailDTO;
 import com.menubyte.dto.ItemUpdateRequest;
 import com.menubyte.dto.ItemVariantDto;
 import com.menubyte.entity.*;
+import com.menubyte.event.ItemAvailabilityChangedEvent;
+import com.menubyte.event.MenuChangedEvent;
+import com.menubyte.mapper.ItemMapper;
 import com.menubyte.repository.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -15,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -43,9 +51,13 @@ public class ItemService {
     MasterItemService masterItemService;
     @Autowired
     ItemVariantRepository itemVariantRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private MenuRepository menuRepository;
 
     @Transactional
-    public Item createItemForBusiness(Long businessId, ItemCreationRequest request) {
+    public ItemDetailDTO createItemForBusiness(Long businessId, ItemCreationRequest request) {
         log.info("Starting item creation for business ID: {}", businessId);
 
         validateItemCreationRequest(request);
@@ -64,9 +76,11 @@ public class ItemService {
         }
 
         Item savedItem = itemRepository.save(newItem);
+        Long contentVersion = menuRepository.incrementContentVersion(menu.getId(), null);
+        eventPublisher.publishEvent(new MenuChangedEvent(businessId, List.of(savedItem.getId()), contentVersion));
 
         log.info("Item created successfully with ID: {} for business ID: {}", savedItem.getId(), businessId);
-        return savedItem;
+        return new ItemDetailDTO(savedItem);
     }
 
     /**
@@ -144,7 +158,7 @@ public class ItemService {
     /**
      * Finds or creates a menu for the given business.
      */
-    private Menu findOrCreateMenuForBusiness(Long businessId, Business business) {
+    public Menu findOrCreateMenuForBusiness(Long businessId, Business business) {
         return menuService.findByBusinessId(businessId)
                 .orElseGet(() -> {
                     log.info("No existing menu found for business ID: {}. Creating a default menu.", businessId);
@@ -171,7 +185,7 @@ public class ItemService {
             return masterItemService.createMasterItem(newMasterItem);
         } else if (request.getMasterItemId() != null) {
             log.info("isNewItem is false, fetching existing MasterItem with ID: {}", request.getMasterItemId());
-            return masterItemService.getMasterItemById(request.getMasterItemId())
+            return masterItemService.getMasterItemReference(request.getMasterItemId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Master Item not found with ID: " + request.getMasterItemId()));
         }
         return null;
@@ -180,7 +194,7 @@ public class ItemService {
     /**
      * Maps the validated request data to a new Item entity.
      */
-    private Item mapRequestToNewItem(ItemCreationRequest request, Category category, MasterItem masterItem, Menu menu) {
+    public Item mapRequestToNewItem(ItemCreationRequest request, Category category, MasterItem masterItem, Menu menu) {
         Item newItem = new Item();
         newItem.setItemName(request.getItemName());
         newItem.setItemDescription(request.getItemDescription());
@@ -208,13 +222,22 @@ public class ItemService {
         return newItem;
     }
 
-    public List<Item> getItemsForBusiness(Long businessId) {
+    public List<ItemDetailDTO> getItemsForBusiness(Long businessId) {
         log.info("Fetching items for business ID: {}", businessId);
-        List<Item> items = itemRepository.findByMenuBusinessId(businessId);
+        List<ItemDetailDTO> items = itemRepository.findDetailsByBusinessId(businessId).stream()
+                .map(ItemDetailDTO::new)
+                .collect(Collectors.toList());
         log.info("Total items found for business {}: {}", businessId, items.size());
         return items;
     }
 
+    public ItemDetailDTO getItemDetails(Long itemId) {
+        log.info("Fetching item details with ID: {}", itemId);
+        return itemRepository.findDetailsById(itemId)
+                .map(ItemDetailDTO::new)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Item not found with ID: " + itemId));
+    }
+
     public Item getItemById(Long itemId) {
         log.info("Fetching item with ID: {}", itemId);
         return itemRepository.findById(itemId)
@@ -225,9 +248,10 @@ public class ItemService {
     }
 
     @Transactional
-    public Item updateItem(Long itemId, ItemUpdateRequest request) {
+    public ItemDetailDTO updateItem(Long itemId, ItemUpdateRequest request) {
         log.info("Updating item with ID: {}", itemId);
-        Item existingItem = getItemById(itemId);
+        Item existingItem = itemRepository.findDetailsById(itemId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Item not found with ID: " + itemId));
 
         Category newCategory = categoryService.findById(request.getCategoryId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -248,44 +272,92 @@ public class ItemService {
         existingItem.setBestseller(request.getBestseller() != null ? request.getBestseller() : false);
 
         existingItem.setCategory(newCategory);
-        existingItem.getVariants().clear();
 
-        if (request.getVariants() != null && !request.getVariants().isEmpty()) {
-            List<ItemVariant> newVariants = request.getVariants().stream()
-                    .map(variantDto -> {
-                        ItemVariant variant = new ItemVariant();
-                        variant.setVariantName(variantDto.getVariantName());
-                        variant.setPrice(variantDto.getPrice());
-                        variant.setItem(existingItem);
-                        return variant;
-                    })
-                    .collect(Collectors.toList());
-            existingItem.getVariants().addAll(newVariants);
+        // Diff the variants so only changed rows are written and unchanged variant IDs survive the edit
+        if (request.getVariants() != null) {
+            ItemMapper.mergeVariants(existingItem, request.getVariants());
         }
 
         existingItem.setUpdatedDate(LocalDateTime.now());
 
         Item updated = itemRepository.save(existingItem);
+        Long contentVersion = menuRepository.incrementContentVersion(existingItem.getMenu().getId(), null);
+        eventPublisher.publishEvent(new MenuChangedEvent(existingItem.getMenu().getBusiness().getId(), List.of(itemId),
+                contentVersion));
         log.info("Item updated successfully with ID: {}", updated.getId());
-        return updated;
+        return new ItemDetailDTO(updated);
     }
 
     @Transactional
     public void deleteItem(Long itemId) {
         log.info("Deleting item with ID: {}", itemId);
         Item item = getItemById(itemId);
+        Long businessId = item.getMenu().getBusiness().getId();
         itemRepository.delete(item);
+        Long contentVersion = menuRepository.incrementContentVersion(item.getMenu().getId(), null);
+        eventPublisher.publishEvent(new MenuChangedEvent(businessId, List.of(itemId), contentVersion));
         log.info("Item with ID: {} deleted successfully.", itemId);
     }
 
+    /**
+     * Deletes several items of one business with set-based statements: one ownership query,
+     * then one DELETE for the variants and one for the items.
+     * Fails without deleting anything if any ID does not belong to the business.
+     */
     @Transactional
-    public List<Item> createBulkItemsForBusiness(Long businessId, List<ItemCreationRequest> requests) {
-        List<Item> createdItems = new ArrayList<>();
-        for (ItemCreationRequest request : requests) {
-            Item createdItem = createItemForBusiness(businessId, request);
-            log.info("Created item " + createdItem.getItemName());
-            createdItems.add(createdItem);
+    public void bulkDeleteItems(Long businessId, List<Long> itemIds) {
+        if (businessId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Business ID is required.");
+        }
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item IDs list cannot be empty.");
+        }
+        Set<Long> requested = new LinkedHashSet<>(itemIds);
+        List<Long> owned = itemRepository.findIdsByBusinessIdAndIdIn(businessId, requested);
+        if (owned.size() != requested.size()) {
+            List<Long> missing = new ArrayList<>(requested);
+            missing.removeAll(owned);
+            log.warn("bulk_delete_rejected businessId={} missingItemIds={}", businessId, missing);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Items not found for business ID " + businessId + ": " + missing);
+        }
+
+        int variants = itemVariantRepository.deleteByItemIdIn(owned);
+        int items = itemRepository.deleteByIdIn(owned);
+        Long contentVersion = menuRepository.incrementContentVersionByBusinessId(businessId);
+        eventPublisher.publishEvent(new MenuChangedEvent(businessId, owned, contentVersion));
+        log.info("bulk_delete_completed businessId={} items={} variants={} contentVersion={}",
+                businessId, items, variants, contentVersion);
+    }
+
+    /**
+     * Hot path for switching items on or off: one UPDATE for all items, then one to bump the menu version.
+     * Cached snapshots and connected clients receive the change after commit.
+     */
+    @Transactional
+    public ItemAvailabilityResponse updateAvailability(Long businessId, List<Long> itemIds, Boolean available) {
+        if (businessId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Business ID is required.");
+        }
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item IDs list cannot be empty.");
+        }
+        if (available == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Availability flag is required.");
+        }
+        Set<Long> requested = new LinkedHashSet<>(itemIds);
+        List<Long> updated = itemRepository.updateAvailability(businessId, requested, available);
+        if (updated.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No items found for business ID " + businessId + ".");
+        }
+        if (updated.size() != requested.size()) {
+            requested.removeAll(updated);
+            log.warn("availability_items_skipped businessId={} itemIds={}", businessId, requested);
         }
-        return createdItems;
+        long contentVersion = menuRepository.incrementContentVersionByBusinessId(businessId);
+        eventPublisher.publishEvent(new ItemAvailabilityChangedEvent(businessId, updated, available, contentVersion));
+        log.info("availability_updated businessId={} items={} available={} contentVersion={}",
+                businessId, updated.size(), available, contentVersion);
+        return new ItemAvailabilityResponse(updated, available, contentVersion);
     }
 }
\ No newline at end of file
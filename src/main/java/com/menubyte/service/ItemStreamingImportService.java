@@ -0,0 +1,306 @@
+package com.menubyte.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menubyte.dto.BulkImportReport;
+import com.menubyte.dto.ItemCreationRequest;
+import com.menubyte.entity.ItemImportJob;
+import com.menubyte.enums.ImportJobStatus;
+import com.menubyte.repository.ItemImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Imports items from an uploaded CSV or JSON-lines file.
+ * The upload is spooled to a temp file and processed in the background: rows are parsed one at a time
+ * and handed to {@link ItemBulkImportService} in chunks of {@code menubyte.import.chunk-size}, each in its
+ * own transaction together with the job's progress. Memory use and connection hold time are bounded by
+ * one chunk, and a failed import resumes after the last committed chunk. A job left QUEUED or RUNNING by a
+ * crashed instance becomes resumable once it has not advanced for {@code menubyte.import.stale-after-ms}.
+ */
+@Slf4j
+@Service
+public class ItemStreamingImportService {
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private final ItemImportJobRepository itemImportJobRepository;
+    private final ItemBulkImportService itemBulkImportService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final Duration staleAfter;
+
+    public ItemStreamingImportService(ItemImportJobRepository itemImportJobRepository,
+                                      ItemBulkImportService itemBulkImportService,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                      AsyncTaskExecutor taskExecutor,
+                                      @Value("${menubyte.import.chunk-size:200}") int chunkSize,
+                                      @Value("${menubyte.import.stale-after-ms:600000}") long staleAfterMs) {
+        this.itemImportJobRepository = itemImportJobRepository;
+        this.itemBulkImportService = itemBulkImportService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+    }
+
+    /**
+     * Starts an import, or resumes one when {@code resumeJobId} is given. A resumed import must upload
+     * the same file (same SHA-256); rows already committed are skipped.
+     */
+    public ItemImportJob submitImport(Long businessId, MultipartFile file, Long resumeJobId) {
+        if (businessId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Business ID is required.");
+        }
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import file cannot be empty.");
+        }
+        String format = detectFormat(file.getOriginalFilename());
+
+        SpooledFile spooled = spool(file);
+        ItemImportJob saved;
+        try {
+            ItemImportJob job = resumeJobId == null
+                    ? newJob(businessId, file, format, spooled.sha256())
+                    : resumableJob(resumeJobId, businessId, file, spooled.sha256());
+            job.setStatus(ImportJobStatus.QUEUED);
+            job.setFailureReason(null);
+            job.setUpdatedAt(LocalDateTime.now());
+            saved = itemImportJobRepository.save(job);
+            taskExecutor.execute(() -> runImport(saved.getId(), spooled.path(), format));
+        } catch (OptimisticLockingFailureException e) {
+            deleteQuietly(spooled.path());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Import job " + resumeJobId + " was resumed by another request.");
+        } catch (RuntimeException e) {
+            deleteQuietly(spooled.path());
+            throw e;
+        }
+        log.info("item_import_submitted jobId={} businessId={} format={} fileSize={} resumeFromRow={}",
+                saved.getId(), businessId, format, file.getSize(), saved.getRowsProcessed());
+        return saved;
+    }
+
+    public ItemImportJob getJob(Long jobId) {
+        return itemImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Import job not found with ID: " + jobId));
+    }
+
+    private ItemImportJob newJob(Long businessId, MultipartFile file, String format, String sha256) {
+        ItemImportJob job = new ItemImportJob();
+        job.setBusinessId(businessId);
+        job.setFileName(file.getOriginalFilename());
+        job.setFileSize(file.getSize());
+        job.setFileSha256(sha256);
+        job.setFormat(format);
+        job.setChunkSize(chunkSize);
+        job.setCreatedAt(LocalDateTime.now());
+        return job;
+    }
+
+    private ItemImportJob resumableJob(Long jobId, Long businessId, MultipartFile file, String sha256) {
+        ItemImportJob job = getJob(jobId);
+        if (!job.getBusinessId().equals(businessId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import job " + jobId + " belongs to another business.");
+        }
+        if (job.getStatus() == ImportJobStatus.QUEUED || job.getStatus() == ImportJobStatus.RUNNING) {
+            if (job.getUpdatedAt().isAfter(LocalDateTime.now().minus(staleAfter))) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Import job " + jobId + " is still running.");
+            }
+            // No progress for staleAfter: the worker most likely died with its instance
+            log.warn("item_import_stale_job_resumed jobId={} status={} updatedAt={}",
+                    jobId, job.getStatus(), job.getUpdatedAt());
+        }
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Import job " + jobId + " has already completed.");
+        }
+        boolean sameContent = job.getFileSha256() == null || job.getFileSha256().equals(sha256);
+        if (job.getFileSize() != file.getSize() || !sameContent) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Resumed import must upload the same file (" + job.getFileName() + ", " + job.getFileSize() + " bytes).");
+        }
+        job.setFileSha256(sha256);
+        return job;
+    }
+
+    private void runImport(Long jobId, Path file, String format) {
+        ItemImportJob job = getJob(jobId);
+        boolean superseded = false;
+        try (ItemImportRowReader reader = new ItemImportRowReader(
+                Files.newBufferedReader(file, StandardCharsets.UTF_8), format, objectMapper)) {
+            job.setStatus(ImportJobStatus.RUNNING);
+            job.setUpdatedAt(LocalDateTime.now());
+            job = itemImportJobRepository.save(job);
+            int skip = job.getRowsProcessed();
+            List<ItemImportRowReader.Row> chunk = new ArrayList<>(chunkSize);
+            ItemImportRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (row.number <= skip) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    job = commitChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                job = commitChunk(job, chunk);
+            }
+            job.setStatus(ImportJobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            log.info("item_import_completed jobId={} rows={} imported={} failed={}",
+                    jobId, job.getRowsProcessed(), job.getRowsImported(), job.getRowsFailed());
+        } catch (OptimisticLockingFailureException e) {
+            // The job went stale and was resumed elsewhere; that run owns it now, and this chunk rolled back
+            superseded = true;
+            log.warn("item_import_superseded jobId={} rowsProcessed={}", jobId, job.getRowsProcessed());
+        } catch (Exception e) {
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setFailureReason(e.getMessage());
+            log.error("item_import_failed jobId={} resumeFromRow={}", jobId, job.getRowsProcessed(), e);
+        } finally {
+            if (!superseded) {
+                saveFinalState(job);
+            }
+            deleteQuietly(file);
+        }
+    }
+
+    private void saveFinalState(ItemImportJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        try {
+            itemImportJobRepository.save(job);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("item_import_superseded jobId={} rowsProcessed={}", job.getId(), job.getRowsProcessed());
+        }
+    }
+
+    /** Imports one chunk and advances the job's progress in the same transaction. */
+    private ItemImportJob commitChunk(ItemImportJob job, List<ItemImportRowReader.Row> chunk) {
+        return transactionTemplate.execute(status -> {
+            List<ItemCreationRequest> requests = new ArrayList<>(chunk.size());
+            List<Integer> rowNumbers = new ArrayList<>(chunk.size());
+            StringBuilder errors = new StringBuilder();
+            int failed = 0;
+            for (ItemImportRowReader.Row row : chunk) {
+                if (row.error != null) {
+                    failed++;
+                    appendError(errors, row.number, row.error);
+                } else {
+                    requests.add(row.request);
+                    rowNumbers.add(row.number);
+                }
+            }
+
+            int imported = 0;
+            if (!requests.isEmpty()) {
+                BulkImportReport report = itemBulkImportService.importItems(job.getBusinessId(), requests);
+                imported = report.getImportedRows();
+                failed += report.getFailedRows();
+                for (BulkImportReport.RowError error : report.getErrors()) {
+                    // Report rows are positions within the chunk; map them back to file rows.
+                    appendError(errors, rowNumbers.get(error.getRow() - 1), error.getMessage());
+                }
+            }
+
+            job.setRowsProcessed(chunk.get(chunk.size() - 1).number);
+            job.setRowsImported(job.getRowsImported() + imported);
+            job.setRowsFailed(job.getRowsFailed() + failed);
+            job.setErrorReport(mergeErrors(job.getErrorReport(), errors));
+            job.setUpdatedAt(LocalDateTime.now());
+            return itemImportJobRepository.save(job);
+        });
+    }
+
+    private static void appendError(StringBuilder errors, int row, String message) {
+        errors.append("row ").append(row).append(": ").append(message).append('\n');
+    }
+
+    private static String mergeErrors(String existing, StringBuilder added) {
+        if (added.length() == 0) {
+            return existing;
+        }
+        String merged = existing == null ? added.toString() : existing + added;
+        long lines = merged.chars().filter(c -> c == '\n').count();
+        if (lines <= MAX_REPORTED_ERRORS) {
+            return merged;
+        }
+        // Keep the first errors; later ones are only counted in rowsFailed.
+        int end = 0;
+        for (int i = 0; i < MAX_REPORTED_ERRORS; i++) {
+            end = merged.indexOf('\n', end) + 1;
+        }
+        return merged.substring(0, end);
+    }
+
+    private static String detectFormat(String fileName) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ItemImportRowReader.CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return ItemImportRowReader.JSON_LINES;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import file must be .csv or .jsonl.");
+    }
+
+    /**
+     * Copies the upload to a temp file, hashing it on the way; the multipart part is deleted when the
+     * request ends.
+     */
+    private static SpooledFile spool(MultipartFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Path spooled = Files.createTempFile("item-import-", ".tmp");
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return new SpooledFile(spooled, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not store the import file.", e);
+        }
+    }
+
+    private record SpooledFile(Path path, String sha256) {
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("item_import_temp_file_not_deleted path={}", file, e);
+        }
+    }
+}
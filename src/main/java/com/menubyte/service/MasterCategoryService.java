@@ -6,10 +6,20 @@
  */
 package com.menubyte.service;
 
+import com.menubyte.cache.CacheInvalidationBus;
+import com.menubyte.cache.MasterCatalogNearCache;
+import com.menubyte.config.CacheConfig;
+import com.menubyte.dto.MasterCategoryDTO;
 import com.menubyte.entity.MasterCategory;
+import com.menubyte.enums.BusinessType;
+import com.menubyte.event.MasterCatalogChangedEvent;
+import com.menubyte.event.RemoteCacheInvalidationEvent;
 import com.menubyte.repository.MasterCategoryRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,6 +30,12 @@ import java.util.Optional;
 public class MasterCategoryService {
 @Autowired
     private  MasterCategoryRepository masterCategoryRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private MasterCatalogNearCache masterCatalogNearCache;
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
 
 
     /**
@@ -27,9 +43,12 @@ public class MasterCategoryService {
      * @param masterCategory MasterCategory object.
      * @return Created MasterCategory object.
      */
+    @CacheEvict(cacheNames = CacheConfig.MASTER_CATEGORIES, allEntries = true)
     public MasterCategory createMasterCategory(MasterCategory masterCategory) {
         log.info("Creating master category: {}", masterCategory);
-        return masterCategoryRepository.save(masterCategory);
+        MasterCategory saved = masterCategoryRepository.save(masterCategory);
+        publishMasterCategoriesChanged();
+        return saved;
     }
 
     /**
@@ -52,11 +71,14 @@ public class MasterCategoryService {
      * @param updatedCategory Updated category details.
      * @return Updated MasterCategory object.
      */
+    @CacheEvict(cacheNames = CacheConfig.MASTER_CATEGORIES, allEntries = true)
     public MasterCategory updateMasterCategory(Long id, MasterCategory updatedCategory) {
         log.info("Updating master category with ID: {}", id);
         MasterCategory existingCategory = getMasterCategoryById(id);
         existingCategory.setCategoryDescription(updatedCategory.getCategoryDescription());
         MasterCategory updated = masterCategoryRepository.save(existingCategory);
+        masterCatalogNearCache.invalidateMasterCategory(id);
+        publishMasterCategoriesChanged();
         log.info("Master category updated successfully: {}", updated);
         return updated;
     }
@@ -65,9 +87,13 @@ public class MasterCategoryService {
      * Delete a Master Category.
      * @param id MasterCategory ID.
      */
+    @CacheEvict(cacheNames = CacheConfig.MASTER_CATEGORIES, allEntries = true)
     public void deleteMasterCategory(Long id) {
         log.info("Deleting master category with ID: {}", id);
         masterCategoryRepository.deleteById(id);
+        publishMasterCategoriesChanged();
+        // Master items are removed with the category
+        eventPublisher.publishEvent(new MasterCatalogChangedEvent(null));
     }
 
     /**
@@ -79,10 +105,48 @@ public class MasterCategoryService {
         return masterCategoryRepository.findAll();
     }
 
+    /**
+     * Get the Master Categories for a business type, or all of them, without their collections.
+     * Cached per business type until the next Master Category write.
+     * @param businessType Business type, or null for all.
+     * @return Read-only list of MasterCategoryDTO objects.
+     */
+    @Cacheable(cacheNames = CacheConfig.MASTER_CATEGORIES, key = "#businessType == null ? 'ALL' : #businessType.name()")
+    public List<MasterCategoryDTO> getMasterCategories(BusinessType businessType) {
+        log.info("Loading master categories for business type: {}", businessType);
+        List<MasterCategoryDTO> categories = businessType == null
+                ? masterCategoryRepository.findAllAsDto()
+                : masterCategoryRepository.findByBusinessType(businessType);
+        return List.copyOf(categories);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.MASTER_CATEGORIES, allEntries = true)
     public MasterCategory save(MasterCategory masterCategory) {
-        return masterCategoryRepository.save(masterCategory);
+        MasterCategory saved = masterCategoryRepository.save(masterCategory);
+        publishMasterCategoriesChanged();
+        return saved;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.MASTER_CATEGORIES, allEntries = true)
+    public List<MasterCategory> saveAll(List<MasterCategory> masterCategories) {
+        List<MasterCategory> saved = masterCategoryRepository.saveAll(masterCategories);
+        publishMasterCategoriesChanged();
+        return saved;
+    }
+
+    /** The local cache is evicted by {@code @CacheEvict}; this clears it on the other nodes. */
+    private void publishMasterCategoriesChanged() {
+        cacheInvalidationBus.publish(CacheConfig.MASTER_CATEGORIES, RemoteCacheInvalidationEvent.ALL_KEYS);
     }
+    /**
+     * Find a Master Category by its exact description, for linking a new Category to it.
+     * The ID is served from the near cache when possible, so a hit returns an unloaded reference.
+     * @param categoryDescription Category description.
+     * @return A reference to the MasterCategory, or empty if none exists.
+     */
     public Optional<MasterCategory> findByCategoryDescription(String categoryDescription) {
-        return masterCategoryRepository.findByCategoryDescription(categoryDescription);
+        Long id = masterCatalogNearCache.masterCategoryId(categoryDescription,
+                description -> masterCategoryRepository.findIdByCategoryDescription(description).orElse(null));
+        return Optional.ofNullable(id).map(masterCategoryRepository::getReferenceById);
     }
 }
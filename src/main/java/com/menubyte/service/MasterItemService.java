@@ -1,7 +1,10 @@
 package com.menubyte.service;
 
+import com.menubyte.cache.MasterCatalogNearCache;
 import com.menubyte.entity.MasterItem;
+import com.menubyte.event.MasterCatalogChangedEvent;
 import com.menubyte.repository.MasterItemRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -10,9 +13,14 @@ import java.util.Optional;
 public class MasterItemService {
 
     private final MasterItemRepository masterItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MasterCatalogNearCache masterCatalogNearCache;
 
-    public MasterItemService(MasterItemRepository masterItemRepository) {
+    public MasterItemService(MasterItemRepository masterItemRepository, ApplicationEventPublisher eventPublisher,
+                             MasterCatalogNearCache masterCatalogNearCache) {
         this.masterItemRepository = masterItemRepository;
+        this.eventPublisher = eventPublisher;
+        this.masterCatalogNearCache = masterCatalogNearCache;
     }
 
     public List<MasterItem> getAllMasterItems() {
@@ -23,9 +31,21 @@ public class MasterItemService {
         return masterItemRepository.findById(id);
     }
 
+    /**
+     * Returns an unloaded reference to the master item for linking a new Item to it.
+     * Existence is served from the near cache when possible, so a hit costs no query.
+     */
+    public Optional<MasterItem> getMasterItemReference(Long id) {
+        return masterCatalogNearCache.masterItemExists(id, masterItemRepository::existsById)
+                ? Optional.of(masterItemRepository.getReferenceById(id))
+                : Optional.empty();
+    }
+
     public MasterItem createMasterItem(MasterItem masterItem) {
         // You might want to add business logic here, e.g., check for duplicate item names
-        return masterItemRepository.save(masterItem);
+        MasterItem saved = masterItemRepository.save(masterItem);
+        eventPublisher.publishEvent(new MasterCatalogChangedEvent(List.of(saved.getId())));
+        return saved;
     }
 
     public MasterItem updateMasterItem(Long id, MasterItem updatedMasterItem) {
@@ -36,13 +56,16 @@ public class MasterItemService {
                     existingItem.setItemPrice(updatedMasterItem.getItemPrice());
                     existingItem.setItemImage(updatedMasterItem.getItemImage());
                     existingItem.setMasterCategory(updatedMasterItem.getMasterCategory()); // Update category if needed
-                    return masterItemRepository.save(existingItem);
+                    MasterItem saved = masterItemRepository.save(existingItem);
+                    eventPublisher.publishEvent(new MasterCatalogChangedEvent(List.of(saved.getId())));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("MasterItem not found with id " + id));
     }
 
     public void deleteMasterItem(Long id) {
         masterItemRepository.deleteById(id);
+        eventPublisher.publishEvent(new MasterCatalogChangedEvent(List.of(id)));
     }
 
     /**
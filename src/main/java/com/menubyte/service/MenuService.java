@@ -3,18 +3,28 @@ package com.menubyte.service;
 import com.menubyte.dto.CategoryDTO;
 import com.menubyte.dto.ItemDTO;
 import com.menubyte.dto.MenuDTO;
+import com.menubyte.dto.MenuPatchRequest;
+import com.menubyte.dto.MenuPatchResponse;
 import com.menubyte.entity.*;
+import com.menubyte.event.MenuChangedEvent;
 import com.menubyte.mapper.ItemMapper;
 import com.menubyte.repository.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus; // Import HttpStatus
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException; // Import ResponseStatusException
 import org.hibernate.Hibernate;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,23 +32,25 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final BusinessRepository businessRepository;
-    private final BusinessMasterService businessMasterService;
 
     // private final CategoryRepository categoryRepository; // Removed if not directly used here
     // private final MasterCategoryRepository masterCategoryRepository; // Removed if not used by public methods
     private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MenuService(MenuRepository menuRepository,
                        BusinessRepository businessRepository,
                        CategoryRepository categoryRepository, // Keep if still injected for other methods
                        MasterCategoryRepository masterCategoryRepository, // Keep if still injected for other methods
-                       ItemRepository itemRepository,BusinessMasterService businessMasterService) {
+                       ItemRepository itemRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.menuRepository = menuRepository;
         this.businessRepository = businessRepository;
-        // this.categoryRepository = categoryRepository; // Keep if still injected for other methods
+        this.categoryRepository = categoryRepository;
         // this.masterCategoryRepository = masterCategoryRepository; // Keep if still injected for other methods
         this.itemRepository = itemRepository;
-        this.businessMasterService=businessMasterService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -46,7 +58,6 @@ public class MenuService {
      */
     public Menu getMenuForUserBusiness(Long businessId, User user) {
         log.info("Fetching menu for business ID: {} and user ID: {}", businessId, user.getId());
-        businessMasterService.getBusinessesByBusinessID(businessId);
         Business business = businessRepository.findById(businessId)
                 .orElseThrow(() -> {
                     log.error("Business not found with ID: {}", businessId);
@@ -77,6 +88,19 @@ public class MenuService {
         return menuRepository.findByBusinessId(businessId);
     }
 
+    /**
+     * Builds the customer-facing menu tree for a business, as stored in the menu snapshot cache.
+     * Only called on a cache miss; the read-only transaction covers the lazy category/item/variant loads.
+     * Reads the primary: the cache runs it outside {@code @ReplicaReads} scope, see {@code MenuSnapshotCache}.
+     */
+    @Transactional(readOnly = true)
+    public MenuDTO loadMenuSnapshot(Long businessId) {
+        return menuRepository.findByBusinessId(businessId)
+                .map(MenuDTO::new)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Menu not found for business ID: " + businessId));
+    }
+
     /**
      * Saves a new Menu entity.
      * This method is called from ItemService when a default menu needs to be created.
@@ -96,11 +120,13 @@ public class MenuService {
      * It does not support creating new categories or new items.
      */
     @Transactional
-    public Menu updateMenuItems(Long businessId, User user, MenuDTO updatedMenuDTO) {
+    public MenuDTO updateMenuItems(Long businessId, User user, MenuDTO updatedMenuDTO) {
         log.info("Updating menu items for business ID: {}", businessId);
 
         // 1. Fetch the existing Menu entity from the database
         Menu existingMenu = getMenuForUserBusiness(businessId, user);
+        Long contentVersion = menuRepository.incrementContentVersion(existingMenu.getId(), null);
+        existingMenu.setContentVersion(contentVersion);
 
         // Explicitly initialize the 'items' collection within the transaction
         Hibernate.initialize(existingMenu.getItems());
@@ -151,19 +177,124 @@ public class MenuService {
             }
         }
 
-        // After all updates, ensure the menu's items and their categories are fully loaded
-        // before returning, as the DTO conversion happens outside this transaction.
-        Hibernate.initialize(existingMenu.getItems());
-        for (Item item : existingMenu.getItems()) {
-            Hibernate.initialize(item.getCategory());
-            Hibernate.initialize(item.getMenu());
-            // Also initialize masterItem if it's accessed (and can be lazy loaded)
-            if (item.getMasterItem() != null) {
-                Hibernate.initialize(item.getMasterItem());
+        eventPublisher.publishEvent(new MenuChangedEvent(businessId, null, contentVersion));
+        // Built inside the transaction: with open-session-in-view off, the menu tree can't be loaded later
+        return new MenuDTO(existingMenu);
+    }
+
+    /**
+     * Applies a partial update to items of the business's menu.
+     * All referenced items are loaded with one IN query, changed in memory and flushed together
+     * (as a JDBC batch); only the fields present in the patch are touched.
+     *
+     * @return the menu's new content version and the number of items changed.
+     * @throws ResponseStatusException 409 if {@code expectedVersion} no longer matches,
+     * 404 if an item or category does not belong to the menu.
+     */
+    @Transactional
+    public MenuPatchResponse patchMenuItems(Long businessId, User user, MenuPatchRequest patch) {
+        if (patch == null || patch.getItems() == null || patch.getItems().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch must contain at least one item.");
+        }
+        Menu menu = getMenuForUserBusiness(businessId, user);
+
+        // Bump first: the row lock serialises concurrent patches and the version check fails fast.
+        Long newVersion = menuRepository.incrementContentVersion(menu.getId(), patch.getExpectedVersion());
+        if (newVersion == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Menu has changed since version " + patch.getExpectedVersion() + ". Reload and try again.");
+        }
+
+        Set<Long> itemIds = new LinkedHashSet<>();
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (MenuPatchRequest.ItemPatch itemPatch : patch.getItems()) {
+            if (itemPatch.getId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every patched item needs an ID.");
+            }
+            itemIds.add(itemPatch.getId());
+            if (itemPatch.getCategoryId() != null) {
+                categoryIds.add(itemPatch.getCategoryId());
             }
         }
 
-        return existingMenu; // Return the updated menu entity
+        Map<Long, Item> items = itemRepository.findByMenuIdAndIdIn(menu.getId(), List.copyOf(itemIds)).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        if (items.size() != itemIds.size()) {
+            itemIds.removeAll(items.keySet());
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Items not found in this menu: " + itemIds);
+        }
+        Map<Long, Category> categories = categoryIds.isEmpty() ? Map.of()
+                : categoryRepository.findByMenuIdAndIdIn(menu.getId(), categoryIds).stream()
+                        .collect(Collectors.toMap(Category::getId, Function.identity()));
+        if (categories.size() != categoryIds.size()) {
+            categoryIds.removeAll(categories.keySet());
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Categories not found in this menu: " + categoryIds);
+        }
+
+        int updated = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (MenuPatchRequest.ItemPatch itemPatch : patch.getItems()) {
+            Item item = items.get(itemPatch.getId());
+            if (applyPatch(itemPatch, item, categories)) {
+                item.setUpdatedDate(now);
+                updated++;
+            }
+        }
+        // Dirty items are written on flush as one batch of UPDATEs (hibernate.jdbc.batch_size)
+        itemRepository.flush();
+
+        eventPublisher.publishEvent(new MenuChangedEvent(businessId, items.keySet(), newVersion));
+        log.info("menu_patched businessId={} menuId={} items={} updated={} contentVersion={}",
+                businessId, menu.getId(), itemIds.size(), updated, newVersion);
+        return new MenuPatchResponse(menu.getId(), newVersion, updated);
+    }
+
+    /** Copies the non-null patch fields onto the item; returns whether anything changed. */
+    private boolean applyPatch(MenuPatchRequest.ItemPatch patch, Item item, Map<Long, Category> categories) {
+        boolean changed = false;
+        if (patch.getItemName() != null && !patch.getItemName().equals(item.getItemName())) {
+            if (patch.getItemName().trim().isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item name cannot be empty.");
+            }
+            item.setItemName(patch.getItemName());
+            changed = true;
+        }
+        if (patch.getItemDescription() != null && !patch.getItemDescription().equals(item.getItemDescription())) {
+            item.setItemDescription(patch.getItemDescription());
+            changed = true;
+        }
+        if (patch.getItemDiscount() != null && patch.getItemDiscount() != item.getItemDiscount()) {
+            if (patch.getItemDiscount() < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item discount must be a non-negative number.");
+            }
+            item.setItemDiscount(patch.getItemDiscount());
+            changed = true;
+        }
+        if (patch.getItemImage() != null && !patch.getItemImage().equals(item.getItemImage())) {
+            item.setItemImage(patch.getItemImage());
+            changed = true;
+        }
+        if (patch.getVegOrNonVeg() != null && patch.getVegOrNonVeg() != item.getVegOrNonVeg()) {
+            item.setVegOrNonVeg(patch.getVegOrNonVeg());
+            changed = true;
+        }
+        if (patch.getItemAvailability() != null && patch.getItemAvailability() != item.isItemAvailability()) {
+            item.setItemAvailability(patch.getItemAvailability());
+            changed = true;
+        }
+        if (patch.getBestseller() != null && patch.getBestseller() != item.isBestseller()) {
+            item.setBestseller(patch.getBestseller());
+            changed = true;
+        }
+        if (patch.getDealOfTheDay() != null && patch.getDealOfTheDay() != item.isDealOfTheDay()) {
+            item.setDealOfTheDay(patch.getDealOfTheDay());
+            changed = true;
+        }
+        if (patch.getCategoryId() != null && !patch.getCategoryId().equals(item.getCategory().getId())) {
+            item.setCategory(categories.get(patch.getCategoryId()));
+            changed = true;
+        }
+        return changed;
     }
 
     /**
@@ -0,0 +1,192 @@
+package com.menubyte.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code orders} and {@code order_items} (V8 migration) in shape:
+ * creates the coming {@code premake-months} ahead of time and, when {@code archive-after-months} is set,
+ * detaches months older than that into the {@code order_archive} schema, optionally moving them to
+ * {@code archive-tablespace} (e.g. one on a compressed volume).
+ *
+ * <p>Archived months stay queryable under {@code order_archive} but drop out of the dashboards, reports
+ * and forecasts, including {@code period=all}. Creating and detaching a partition briefly locks the parent
+ * table, so each statement runs with a short lock timeout and gives up rather than queue checkout behind
+ * it; months are created well ahead, so the next run simply retries. A Postgres advisory lock keeps
+ * this to one node at a time.</p>
+ *
+ * <p>Orders outside every month land in the default partitions. Their months are created too, which
+ * moves the rows out, and the rows still left there afterwards are reported by the
+ * {@code menubyte.orders.partitions.default.rows} gauge and a warning.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "menubyte.order-partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPartitionMaintainer {
+
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock ("MBORDPRT")
+    private static final long ADVISORY_LOCK_KEY = 0x4D42_4F52_4450_5254L;
+    private static final Pattern PARTITION_NAME = Pattern.compile("orders_y(\\d{4})m(\\d{2})");
+    private static final String MONTH_PARTITIONS_QUERY = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'orders'::regclass";
+    private static final String DEFAULT_PARTITION_MONTHS_QUERY =
+            "SELECT DISTINCT date_trunc('month', created_at)::date FROM orders_default";
+    private static final String DEFAULT_PARTITION_ROWS_QUERY =
+            "SELECT (SELECT count(*) FROM orders_default) + (SELECT count(*) FROM order_items_default)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+    private final int archiveAfterMonths;
+    private final String archiveTablespace;
+    private final String lockTimeout;
+    private final Counter archived;
+    private final AtomicLong defaultPartitionRows = new AtomicLong();
+
+    public OrderPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${menubyte.order-partitions.premake-months:3}") int premakeMonths,
+                                    @Value("${menubyte.order-partitions.archive-after-months:0}") int archiveAfterMonths,
+                                    @Value("${menubyte.order-partitions.archive-tablespace:}") String archiveTablespace,
+                                    @Value("${menubyte.order-partitions.lock-timeout:5s}") String lockTimeout) {
+        if (!lockTimeout.matches("\\d+(ms|s)?")) {
+            // Used unquoted in SET LOCAL, which takes no bind parameters
+            throw new IllegalArgumentException("Invalid order partition lock timeout: " + lockTimeout);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.premakeMonths = premakeMonths;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveTablespace = archiveTablespace;
+        this.lockTimeout = lockTimeout;
+        this.archived = meterRegistry.counter("menubyte.orders.partitions.archived");
+        meterRegistry.gauge("menubyte.orders.partitions.default.rows", defaultPartitionRows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    /**
+     * Creates the current and coming months' partitions and any month stranded in the default partitions,
+     * then archives expired months if archival is on. Each month is its own transaction, so one that times
+     * out on the lock doesn't undo the others.
+     */
+    @Scheduled(cron = "${menubyte.order-partitions.cron:0 30 3 * * *}")
+    public void maintain() {
+        long startedAt = System.currentTimeMillis();
+        YearMonth current = YearMonth.now();
+        TreeSet<YearMonth> months = new TreeSet<>(defaultPartitionMonths());
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            months.add(current.plusMonths(offset));
+        }
+        int ensuredMonths = 0;
+        for (YearMonth month : months) {
+            Boolean done = runLocked("create", month, () -> {
+                jdbcTemplate.queryForObject("SELECT create_order_partitions(?)", Object.class, month.atDay(1));
+                return true;
+            });
+            if (done == null) {
+                return;
+            }
+            if (done) {
+                ensuredMonths++;
+            }
+        }
+
+        int archivedMonths = 0;
+        if (archiveAfterMonths > 0) {
+            YearMonth cutoff = current.minusMonths(archiveAfterMonths);
+            for (YearMonth month : monthPartitions()) {
+                if (!month.isBefore(cutoff)) {
+                    continue;
+                }
+                Boolean done = runLocked("archive", month,
+                        () -> Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT archive_order_partitions(?, ?)",
+                                Boolean.class, month.atDay(1), archiveTablespace)));
+                if (done == null) {
+                    return;
+                }
+                if (done) {
+                    archivedMonths++;
+                    archived.increment();
+                    log.info("order_partition_archived month={} tablespace={}", month, archiveTablespace);
+                }
+            }
+        }
+        long defaultRows = countDefaultPartitionRows();
+        if (defaultRows > 0) {
+            log.warn("order_partitions_default_not_empty rows={}", defaultRows);
+        }
+        log.info("order_partitions_maintained ensuredMonths={} archivedMonths={} defaultRows={} durationMs={}",
+                ensuredMonths, archivedMonths, defaultRows, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Runs one partition statement under the advisory lock and lock timeout. Returns null if another node
+     * holds the lock (stop for now), false if the statement failed or did nothing.
+     */
+    private Boolean runLocked(String action, YearMonth month, Supplier<Boolean> statement) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)",
+                        Boolean.class, ADVISORY_LOCK_KEY))) {
+                    log.info("order_partitions_skipped reason=locked_by_other_node");
+                    return null;
+                }
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout + "'");
+                return statement.get();
+            });
+        } catch (DataAccessException e) {
+            // Typically the lock timeout; the month is retried on the next run
+            log.warn("order_partition_maintenance_failed action={} month={}", action, month, e);
+            return false;
+        }
+    }
+
+    /** Months of the orders sitting in the default partition, which have no partition of their own. */
+    private List<YearMonth> defaultPartitionMonths() {
+        return jdbcTemplate.queryForList(DEFAULT_PARTITION_MONTHS_QUERY, LocalDate.class).stream()
+                .map(YearMonth::from)
+                .toList();
+    }
+
+    /** Rows left in both default partitions; kept for the gauge, which should read zero. */
+    private long countDefaultPartitionRows() {
+        Long rows = jdbcTemplate.queryForObject(DEFAULT_PARTITION_ROWS_QUERY, Long.class);
+        defaultPartitionRows.set(rows == null ? 0 : rows);
+        return defaultPartitionRows.get();
+    }
+
+    /** Months that currently have an attached partition, from the partition names. */
+    private List<YearMonth> monthPartitions() {
+        return jdbcTemplate.queryForList(MONTH_PARTITIONS_QUERY, String.class).stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))))
+                .sorted()
+                .toList();
+    }
+}
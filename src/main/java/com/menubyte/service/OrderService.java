@@ -8,6 +8,7 @@ import com.lowagie.text.Paragraph;
 import com.lowagie.text.Chunk;
 import com.lowagie.text.pdf.PdfWriter;
 import com.lowagie.text.Element;
+import com.menubyte.dto.OrderDTO;
 import com.menubyte.dto.TopSellingItemDTO;
 import com.menubyte.entity.Order;
 import com.menubyte.enums.OrderStatus;
@@ -15,6 +16,7 @@ import com.menubyte.enums.PaymentStatus;
 import com.menubyte.repository.OrderRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
@@ -40,23 +42,35 @@ public class OrderService {
         this.orderRepository = orderRepository;
     }
 
-    public List<Order> getOrdersByBusinessId(Long businessId) {
-        return orderRepository.findByBusinessIdOrderByCreatedAtDesc(businessId);
+    public List<OrderDTO> getOrdersByBusinessId(Long businessId) {
+        return orderRepository.findWithItemsByBusinessId(businessId).stream()
+                .map(OrderDTO::new)
+                .collect(Collectors.toList());
     }
 
-    public List<Order> getTodaysOrdersByBusinessId(Long businessId) {
+    public List<OrderDTO> getTodaysOrdersByBusinessId(Long businessId) {
         LocalDate today = LocalDate.now();
-        return orderRepository.findByBusinessIdAndCreatedAtAfterOrderByCreatedAtDesc(businessId, today.atStartOfDay());
+        return orderRepository.findWithItemsByBusinessIdCreatedAfter(businessId, today.atStartOfDay()).stream()
+                .map(OrderDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    /** Today's orders still waiting to be accepted, oldest first (the kitchen queue). */
+    public List<OrderDTO> getTodaysPendingOrdersByBusinessId(Long businessId) {
+        LocalDate today = LocalDate.now();
+        return orderRepository.findPendingWithItemsByBusinessIdCreatedAfter(businessId, today.atStartOfDay()).stream()
+                .map(OrderDTO::new)
+                .collect(Collectors.toList());
     }
 
     public double calculateTodaysSale(Long businessId) {
-        return getTodaysOrdersByBusinessId(businessId).stream()
-                .mapToDouble(order -> order.getTotalAmount().doubleValue())
-                .sum();
+        LocalDate today = LocalDate.now();
+        return orderRepository.findTotalSalesByBusinessAndPeriod(businessId, today.atStartOfDay(),
+                today.plusDays(1).atStartOfDay());
     }
 
-    public Optional<Order> getOrderById(Long orderId) {
-        return orderRepository.findById(orderId);
+    public Optional<OrderDTO> getOrderById(Long orderId) {
+        return orderRepository.findWithItemsById(orderId).map(OrderDTO::new);
     }
 
     /**
@@ -67,6 +81,7 @@ public class OrderService {
      * @param endDate    The end date of the report range.
      * @return A byte array containing the PDF report.
      */
+    @Transactional(readOnly = true)
     public byte[] generateSalesReport(Long businessId, LocalDate startDate, LocalDate endDate) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             Document document = new Document(PageSize.A4);
@@ -224,29 +239,31 @@ public class OrderService {
             throw new RuntimeException("Error generating PDF sales report.", e);
         }
     }
-    public Optional<Order> updateOrderStatus(Long orderId, String newStatus) {
-        Optional<Order> orderOptional = orderRepository.findById(orderId);
+    @Transactional
+    public Optional<OrderDTO> updateOrderStatus(Long orderId, String newStatus) {
+        Optional<Order> orderOptional = orderRepository.findWithItemsById(orderId);
         if (orderOptional.isPresent()) {
             Order order = orderOptional.get();
             try {
                 // Converts string "ACCEPTED" -> OrderStatus.ACCEPTED safely
                 order.setOrderStatus(OrderStatus.valueOf(newStatus.toUpperCase()));
-                return Optional.of(orderRepository.save(order));
+                return Optional.of(new OrderDTO(orderRepository.save(order)));
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException("Invalid order status value: " + newStatus);
             }
         }
         return Optional.empty();
     }
-    public Optional<Order> updatePaymentStatus(Long id,String paymentStatus){
+    @Transactional
+    public Optional<OrderDTO> updatePaymentStatus(Long id,String paymentStatus){
 
-        return orderRepository.findById(id)
+        return orderRepository.findWithItemsById(id)
                 .map(order->{
 
                     order.setPaymentStatus(
                             PaymentStatus.valueOf(paymentStatus));
 
-                    return orderRepository.save(order);
+                    return new OrderDTO(orderRepository.save(order));
 
                 });
 
@@ -254,6 +271,7 @@ public class OrderService {
     /**
      * Exposes repository data-driven item rankings for a business over a given range.
      */
+    @Transactional(readOnly = true)
     public List<TopSellingItemDTO> getTopSellingItems(Long businessId, LocalDateTime start, LocalDateTime end) {
         return orderRepository.findTopSellingItemsByBusinessAndPeriod(businessId, start, end);
     }
@@ -15,6 +15,8 @@ import org.nd4j.linalg.api.ndarray.INDArray;
 import org.nd4j.linalg.factory.Nd4j;
 import org.nd4j.linalg.learning.config.Adam;
 import org.nd4j.linalg.lossfunctions.LossFunctions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,7 +25,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * LSTM-based next-day sales forecasting.
+ * Created lazily and only when forecasting is enabled, so the ND4J native backend is loaded on first use
+ * instead of during application startup.
+ */
 @Service
+@Lazy
+@ConditionalOnProperty(name = "menubyte.forecast.enabled", havingValue = "true")
 @Slf4j
 public class SalesAnalysisService {
 
@@ -32,6 +41,8 @@ public class SalesAnalysisService {
     private static final double LEARNING_RATE = 0.01;
     private static final int EPOCHS = 50;
 
+    private volatile boolean backendReady;
+
     /**
      * Trains a simple LSTM neural network model on historical sales data to forecast future sales.
      * This method demonstrates a basic time-series forecasting approach.
@@ -127,6 +138,7 @@ public class SalesAnalysisService {
         if (sortedDates.isEmpty()) {
             return 0.0; // Return 0 if there is no sales data
         }
+        ensureBackendLoaded();
 
         // Train the model
         MultiLayerNetwork model = trainModel(dailySales);
@@ -140,4 +152,21 @@ public class SalesAnalysisService {
         log.info("sales_forecast_generated dataPoints={} forecast={}", dailySales.size(), forecast);
         return forecast;
     }
+
+    /**
+     * Loads the ND4J native backend once and records how long it took.
+     */
+    private void ensureBackendLoaded() {
+        if (backendReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!backendReady) {
+                long startedAt = System.currentTimeMillis();
+                String backend = Nd4j.getBackend().getClass().getSimpleName();
+                backendReady = true;
+                log.info("nd4j_backend_initialized backend={} durationMs={}", backend, System.currentTimeMillis() - startedAt);
+            }
+        }
+    }
 }
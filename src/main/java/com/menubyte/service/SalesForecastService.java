@@ -0,0 +1,184 @@
+package com.menubyte.service;
+
+import com.menubyte.config.DataSourceWorkload;
+import com.menubyte.entity.BusinessMaster;
+import com.menubyte.entity.SalesForecast;
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.repository.BusinessMasterRepository;
+import com.menubyte.repository.OrderRepository;
+import com.menubyte.repository.SalesForecastRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputes next-day sales forecasts for every business with an ACTIVE subscription.
+ * The nightly batch trains one model per business on a bounded worker pool and stores the
+ * result in {@code sales_forecast}, so the API can serve forecasts without training on request.
+ *
+ * <p>Only active with {@code menubyte.forecast.enabled=true} (the {@code forecasting} profile), so regular
+ * API instances never load the ML stack. The model service is injected lazily and ND4J starts on the first run.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "menubyte.forecast.enabled", havingValue = "true")
+public class SalesForecastService {
+
+    private final BusinessMasterRepository businessMasterRepository;
+    private final OrderRepository orderRepository;
+    private final SalesForecastRepository salesForecastRepository;
+    private final SalesAnalysisService salesAnalysisService;
+
+    private final int historyDays;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger totalBusinesses = new AtomicInteger();
+    private final AtomicInteger completedBusinesses = new AtomicInteger();
+
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter skipped;
+    private final Timer businessTimer;
+    private final Timer runTimer;
+
+    public SalesForecastService(BusinessMasterRepository businessMasterRepository,
+                                OrderRepository orderRepository,
+                                SalesForecastRepository salesForecastRepository,
+                                @Lazy SalesAnalysisService salesAnalysisService,
+                                MeterRegistry meterRegistry,
+                                @Value("${menubyte.forecast.history-days:90}") int historyDays,
+                                @Value("${menubyte.forecast.parallelism:0}") int parallelism) {
+        this.businessMasterRepository = businessMasterRepository;
+        this.orderRepository = orderRepository;
+        this.salesForecastRepository = salesForecastRepository;
+        this.salesAnalysisService = salesAnalysisService;
+        this.historyDays = historyDays;
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.parallelism = parallelism > 0 ? Math.min(parallelism, cores) : cores;
+
+        this.succeeded = meterRegistry.counter("menubyte.forecast.businesses", "outcome", "success");
+        this.failed = meterRegistry.counter("menubyte.forecast.businesses", "outcome", "failed");
+        this.skipped = meterRegistry.counter("menubyte.forecast.businesses", "outcome", "skipped");
+        this.businessTimer = meterRegistry.timer("menubyte.forecast.business.duration");
+        this.runTimer = meterRegistry.timer("menubyte.forecast.run.duration");
+        meterRegistry.gauge("menubyte.forecast.progress.total", totalBusinesses);
+        meterRegistry.gauge("menubyte.forecast.progress.completed", completedBusinesses);
+    }
+
+    /**
+     * Nightly batch: forecasts every active business in parallel.
+     * Overlapping runs are skipped rather than queued.
+     */
+    @Scheduled(cron = "${menubyte.forecast.cron:0 30 2 * * *}")
+    public void forecastActiveBusinesses() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("forecast_batch_skipped reason=already_running");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, forecastThreadFactory());
+        try {
+            List<Long> businessIds = businessMasterRepository.findBySubscriptionStatus(SubscriptionStatus.ACTIVE).stream()
+                    .map(BusinessMaster::getBusiness)
+                    .filter(Objects::nonNull)
+                    .map(business -> business.getId())
+                    .distinct()
+                    .collect(Collectors.toList());
+            totalBusinesses.set(businessIds.size());
+            completedBusinesses.set(0);
+            log.info("forecast_batch_started businesses={} parallelism={}", businessIds.size(), parallelism);
+
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(businessIds.size());
+            for (Long businessId : businessIds) {
+                // Batch reads go to the OLAP pool, away from order traffic
+                tasks.add(CompletableFuture.runAsync(() -> DataSourceWorkload.run(DataSourceWorkload.Workload.OLAP,
+                        "SalesForecastService#forecastBusiness", () -> forecastBusiness(businessId)), pool));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } finally {
+            pool.shutdown();
+            running.set(false);
+            long durationMs = System.currentTimeMillis() - startedAt;
+            runTimer.record(durationMs, TimeUnit.MILLISECONDS);
+            log.info("forecast_batch_finished completed={} total={} durationMs={}",
+                    completedBusinesses.get(), totalBusinesses.get(), durationMs);
+        }
+    }
+
+    private void forecastBusiness(Long businessId) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            Map<String, Double> dailySales = loadDailySales(businessId);
+            if (dailySales.size() < 2) {
+                // The model needs at least two data points to learn a transition.
+                skipped.increment();
+                return;
+            }
+            double forecast = salesAnalysisService.getNextDaySalesForecast(dailySales);
+
+            SalesForecast salesForecast = salesForecastRepository.findByBusinessId(businessId)
+                    .orElseGet(SalesForecast::new);
+            salesForecast.setBusinessId(businessId);
+            salesForecast.setForecastDate(LocalDate.now().plusDays(1));
+            salesForecast.setForecastAmount(forecast);
+            salesForecast.setDataPoints(dailySales.size());
+            salesForecast.setGeneratedAt(LocalDateTime.now());
+            salesForecast.setDurationMs(System.currentTimeMillis() - startedAt);
+            salesForecastRepository.save(salesForecast);
+            succeeded.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.error("forecast_business_failed businessId={}", businessId, e);
+        } finally {
+            businessTimer.record(System.currentTimeMillis() - startedAt, TimeUnit.MILLISECONDS);
+            completedBusinesses.incrementAndGet();
+        }
+    }
+
+    private Map<String, Double> loadDailySales(Long businessId) {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = orderRepository.findDailySalesByBusinessAndPeriod(
+                businessId, today.minusDays(historyDays).atStartOfDay(), today.atTime(23, 59, 59));
+
+        // TreeMap keeps ISO dates in chronological order for the model.
+        Map<String, Double> dailySales = new TreeMap<>();
+        for (Object[] row : rows) {
+            LocalDate date = row[0] instanceof java.sql.Date ? ((java.sql.Date) row[0]).toLocalDate() : (LocalDate) row[0];
+            dailySales.put(date.toString(), ((BigDecimal) row[1]).doubleValue());
+        }
+        return dailySales;
+    }
+
+    private static ThreadFactory forecastThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "forecast-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
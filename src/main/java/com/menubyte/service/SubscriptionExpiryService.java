@@ -0,0 +1,102 @@
+package com.menubyte.service;
+
+import com.menubyte.enums.SubscriptionStatus;
+import com.menubyte.event.MenuChangedEvent;
+import com.menubyte.event.SubscriptionStatusChangedEvent;
+import com.menubyte.repository.BusinessMasterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves ACTIVE subscriptions whose end date has passed to INACTIVE.
+ *
+ * <p>Each chunk is one set-based {@code UPDATE ... RETURNING} over the partial index on ACTIVE end dates,
+ * in its own transaction, so a failure loses at most one chunk. The lock is a transaction-scoped advisory
+ * lock taken per chunk, not one held for the whole run: two nodes never expire a chunk at the same moment,
+ * and a node that finds it taken ends its run, but another node can pick up between chunks. The chunk
+ * query's {@code FOR UPDATE SKIP LOCKED} keeps a row from being expired twice either way. Expired
+ * businesses are announced after commit so menu and entitlement caches drop them.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "menubyte.subscription-expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class SubscriptionExpiryService {
+
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock ("MBSUBEXP")
+    private static final long ADVISORY_LOCK_KEY = 0x4D42_5355_4245_5850L;
+
+    private final BusinessMasterRepository businessMasterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter expired;
+
+    public SubscriptionExpiryService(BusinessMasterRepository businessMasterRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${menubyte.subscription-expiry.batch-size:500}") int batchSize,
+                                     @Value("${menubyte.subscription-expiry.max-batches:200}") int maxBatches) {
+        this.businessMasterRepository = businessMasterRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.expired = meterRegistry.counter("menubyte.subscription.expired");
+    }
+
+    /**
+     * Expires ended subscriptions in chunks until none are left, another node holds the lock,
+     * or {@code max-batches} is reached (the next run continues).
+     */
+    @Scheduled(cron = "${menubyte.subscription-expiry.cron:0 5 * * * *}")
+    public void expireEndedSubscriptions() {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int batches = 0;
+        while (batches < maxBatches) {
+            List<Long> businessIds = transactionTemplate.execute(status -> expireBatch(today));
+            if (businessIds == null) {
+                log.info("subscription_expiry_skipped reason=locked_by_other_node");
+                return;
+            }
+            batches++;
+            total += businessIds.size();
+            if (businessIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("subscription_expiry_finished expired={} batches={} durationMs={}",
+                total, batches, System.currentTimeMillis() - startedAt);
+    }
+
+    /** Returns the expired business IDs, or null if another node is sweeping. */
+    private List<Long> expireBatch(LocalDate today) {
+        if (!businessMasterRepository.tryAdvisoryTransactionLock(ADVISORY_LOCK_KEY)) {
+            return null;
+        }
+        List<Long> businessIds = businessMasterRepository.expireEndedSubscriptions(today, batchSize);
+        if (businessIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        expired.increment(businessIds.size());
+        eventPublisher.publishEvent(new SubscriptionStatusChangedEvent(businessIds, SubscriptionStatus.INACTIVE));
+        // Menu caches and connected menu screens pick up the INACTIVE state
+        businessIds.forEach(businessId -> eventPublisher.publishEvent(new MenuChangedEvent(businessId, null)));
+        return businessIds;
+    }
+}
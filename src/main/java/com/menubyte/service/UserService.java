@@ -6,6 +6,8 @@
  */
 package com.menubyte.service;
 
+import com.menubyte.dto.BusinessDTO;
+import com.menubyte.dto.UserDTO;
 import com.menubyte.entity.User;
 import com.menubyte.enums.UserType;
 import com.menubyte.exception.UserAlreadyExistsException;
@@ -13,7 +15,9 @@ import com.menubyte.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,7 +34,7 @@ public class UserService {
      * @param user User entity.
      * @return Created User.
      */
-    public User createUser(User user)  { // Removed 'throws' as it's a RuntimeException
+    public UserDTO createUser(User user)  { // Removed 'throws' as it's a RuntimeException
         log.info("Creating user with email: {}", user.getEmail());
             // Check if a user with the same mobile number already exists
             Optional<User> existingUserByMobile = userRepository.findByMobileNumber(user.getMobileNumber());
@@ -44,7 +48,7 @@ public class UserService {
             }
             // Only if no duplicates are found, save the new user and return the result
             user.setUserType(UserType.ADMIN);  //TODO remove
-            return userRepository.save(user);
+            return new UserDTO(userRepository.save(user));
         }
 
 
@@ -54,9 +58,9 @@ public class UserService {
      * @param updatedUser Updated user data.
      * @return Updated User.
      */
-    public User updateUser(Long id, User updatedUser) {
+    public UserDTO updateUser(Long id, User updatedUser) {
         log.info("Updating user with ID: {}", id);
-        Optional<User> optionalUser = userRepository.findById(id);
+        Optional<User> optionalUser = userRepository.findWithBusinessesById(id);
         if (optionalUser.isPresent()) {
             User existingUser = optionalUser.get();
             existingUser.setUsername(updatedUser.getUsername());
@@ -68,7 +72,8 @@ public class UserService {
 //            existingUser.setCountry(updatedUser.getCountry());
 //            existingUser.setPan(updatedUser.getPan());
 //            existingUser.setAadhar(updatedUser.getAadhar());
-            return userRepository.save(existingUser);
+            userRepository.save(existingUser);
+            return toDto(existingUser);
         } else {
             log.error("User not found with ID: {}", id);
             throw new RuntimeException("User not found with ID: " + id);
@@ -98,6 +103,27 @@ public class UserService {
                 });
     }
 
+    /**
+     * Get a user with their businesses, for API responses.
+     * @param id User ID.
+     * @return User without the password.
+     */
+    public UserDTO getUserDetails(Long id) {
+        log.info("Fetching user details with ID: {}", id);
+        return userRepository.findWithBusinessesById(id)
+                .map(this::toDto)
+                .orElseThrow(() -> {
+                    log.error("User not found with ID: {}", id);
+                    return new RuntimeException("User not found with ID: " + id);
+                });
+    }
+
+    private UserDTO toDto(User user) {
+        List<BusinessDTO> businesses = user.getBusinesses() == null ? null
+                : user.getBusinesses().stream().map(BusinessDTO::new).collect(Collectors.toList());
+        return new UserDTO(user, businesses);
+    }
+
     /**
      * Authenticate a user (Login with Mobile & Password).
      * @param mobileNumber Mobile number.
@@ -0,0 +1,151 @@
+-- Baseline schema matching the JPA entities as previously generated by ddl-auto=update.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE users (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username      varchar(255),
+    email         varchar(255) UNIQUE,
+    password      varchar(255),
+    mobile_number varchar(255) UNIQUE,
+    user_type     varchar(255)
+);
+
+CREATE TABLE business (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_name varchar(255),
+    business_logo varchar(255),
+    tagline       varchar(255),
+    business_type varchar(255),
+    user_id       bigint NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE menu (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_id  bigint UNIQUE REFERENCES business (id),
+    menu_name    varchar(255) NOT NULL DEFAULT 'Default Menu',
+    created_date timestamp(6),
+    updated_date timestamp(6)
+);
+
+CREATE TABLE master_category (
+    id                   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_description varchar(255) NOT NULL UNIQUE,
+    business_type        varchar(255)
+);
+
+CREATE TABLE master_item (
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    item_name          varchar(255) NOT NULL,
+    item_description   varchar(255),
+    item_price         float(53) NOT NULL,
+    item_image         varchar(255),
+    master_category_id bigint REFERENCES master_category (id)
+);
+
+CREATE TABLE category (
+    id                   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_description varchar(255) NOT NULL,
+    master_category_id   bigint REFERENCES master_category (id),
+    menu_id              bigint NOT NULL REFERENCES menu (id),
+    CONSTRAINT uk_category_description_menu UNIQUE (category_description, menu_id)
+);
+
+CREATE TABLE item (
+    id                bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    item_name         varchar(255),
+    item_description  varchar(255),
+    item_discount     float(53) NOT NULL,
+    item_image        varchar(255),
+    veg_or_non_veg    varchar(255),
+    item_availability boolean NOT NULL,
+    bestseller        boolean NOT NULL,
+    deal_of_the_day   boolean,
+    category_id       bigint NOT NULL REFERENCES category (id),
+    menu_id           bigint NOT NULL REFERENCES menu (id),
+    master_item_id    bigint REFERENCES master_item (id),
+    created_date      timestamp(6),
+    updated_date      timestamp(6)
+);
+
+CREATE TABLE item_variant (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    variant_name varchar(255),
+    price        float(53) NOT NULL,
+    item_id      bigint NOT NULL REFERENCES item (id)
+);
+
+CREATE TABLE business_master (
+    id                  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    register_date       date,
+    end_date            date,
+    amount_paid         float(53) NOT NULL,
+    subscription_status varchar(255),
+    subscription_type   varchar(255),
+    user_id             bigint NOT NULL REFERENCES users (id),
+    business_id         bigint NOT NULL REFERENCES business (id)
+);
+
+CREATE TABLE offers (
+    id                  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    offer_code          varchar(255) NOT NULL UNIQUE,
+    title               varchar(255),
+    offer_image_url     varchar(255),
+    target_business_ids varchar(255) NOT NULL,
+    target_category_ids varchar(255) NOT NULL,
+    discount_value      float(53) NOT NULL,
+    discount_type       varchar(255) NOT NULL,
+    minimum_cart_value  float(53),
+    start_date          date NOT NULL,
+    end_date            date NOT NULL,
+    visibility          varchar(255) NOT NULL,
+    is_active           boolean NOT NULL
+);
+
+CREATE TABLE orders (
+    id                  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    razorpay_order_id   varchar(255) UNIQUE,
+    razorpay_payment_id varchar(255) UNIQUE,
+    business_id         bigint NOT NULL,
+    user_id             bigint NOT NULL,
+    total_amount        numeric(38, 2) NOT NULL,
+    order_status        varchar(255) NOT NULL,
+    payment_status      varchar(255) NOT NULL,
+    created_at          timestamp(6) NOT NULL,
+    payment_mode        varchar(255) NOT NULL,
+    table_number        varchar(255),
+    order_note          varchar(500)
+);
+
+CREATE TABLE order_items (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id     bigint NOT NULL REFERENCES orders (id),
+    item_id      bigint NOT NULL,
+    item_name    varchar(255) NOT NULL,
+    variant_name varchar(255) NOT NULL,
+    quantity     integer NOT NULL,
+    price        numeric(38, 2) NOT NULL
+);
+
+CREATE TABLE error_logs (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    occurred_at    timestamp(6) NOT NULL,
+    request_id     varchar(64),
+    http_method    varchar(10),
+    request_path   varchar(512),
+    status_code    integer,
+    exception_type varchar(512),
+    message        varchar(4000),
+    stack_trace    varchar(12000)
+);
+CREATE INDEX idx_error_logs_occurred_at ON error_logs (occurred_at);
+CREATE INDEX idx_error_logs_request_id ON error_logs (request_id);
+
+CREATE TABLE sales_forecast (
+    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_id     bigint NOT NULL UNIQUE,
+    forecast_date   date NOT NULL,
+    forecast_amount float(53) NOT NULL,
+    data_points     integer NOT NULL,
+    generated_at    timestamp(6) NOT NULL,
+    duration_ms     bigint
+);
@@ -0,0 +1,19 @@
+-- Progress of streaming item imports (POST /api/items/import)
+CREATE TABLE item_import_job (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_id    bigint NOT NULL,
+    file_name      varchar(255),
+    file_size      bigint NOT NULL,
+    format         varchar(10) NOT NULL,
+    status         varchar(20) NOT NULL,
+    chunk_size     integer NOT NULL,
+    rows_processed integer NOT NULL DEFAULT 0,
+    rows_imported  integer NOT NULL DEFAULT 0,
+    rows_failed    integer NOT NULL DEFAULT 0,
+    error_report   text,
+    failure_reason varchar(4000),
+    created_at     timestamp(6) NOT NULL,
+    updated_at     timestamp(6) NOT NULL,
+    completed_at   timestamp(6)
+);
+CREATE INDEX idx_item_import_job_business_id ON item_import_job (business_id);
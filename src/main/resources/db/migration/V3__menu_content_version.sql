@@ -0,0 +1,2 @@
+-- Version number returned by PATCH /api/menus/{businessId}, bumped on every menu content change
+ALTER TABLE menu ADD COLUMN IF NOT EXISTS content_version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- GET /api/master-categories?businessType= filters in the database
+CREATE INDEX IF NOT EXISTS idx_master_category_business_type ON master_category (business_type);
@@ -0,0 +1,3 @@
+-- Subscription expiry sweep: only ACTIVE rows are candidates, so the partial index stays small
+CREATE INDEX IF NOT EXISTS idx_business_master_active_end_date
+    ON business_master (end_date) WHERE subscription_status = 'ACTIVE';
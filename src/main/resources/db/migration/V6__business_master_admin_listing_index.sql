@@ -0,0 +1,3 @@
+-- Admin listing (GET /api/business-master/admin): default sort and expiry-window filter on end_date,
+-- across all statuses (the V5 partial index only covers ACTIVE rows)
+CREATE INDEX IF NOT EXISTS idx_business_master_end_date ON business_master (end_date, id);
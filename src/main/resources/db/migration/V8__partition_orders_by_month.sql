@@ -0,0 +1,220 @@
+-- Monthly range partitioning of orders on created_at, with order_items partitioned on the same months.
+--
+-- order_items carries its order's created_at (order_created_at) so both tables split on the same
+-- boundaries: a month's orders and their lines live in orders_yYYYYmMM and order_items_yYYYYmMM and can be
+-- detached together. Queries with a created_at range (dashboards, reports, forecasts) only read the
+-- months they cover.
+--
+-- The existing rows are copied, so the migration holds a lock on orders for the length of the copy;
+-- run it in a maintenance window on large databases.
+
+-- Partitioned unique constraints must include created_at, so the razorpay IDs stay globally unique
+-- through this table instead (kept in step by a trigger on orders). One row per ID currently set on an
+-- order; key_type keeps order and payment IDs apart, as the two old UNIQUE columns did.
+CREATE TABLE order_razorpay_keys (
+    key_type    varchar(10) NOT NULL CHECK (key_type IN ('order', 'payment')),
+    razorpay_id varchar(255) NOT NULL,
+    order_id    bigint NOT NULL,
+    CONSTRAINT order_razorpay_keys_pk PRIMARY KEY (key_type, razorpay_id)
+);
+
+ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+-- Names are reused on the partitioned tables below
+DROP INDEX IF EXISTS idx_orders_business_created_at;
+DROP INDEX IF EXISTS idx_orders_business_pending;
+DROP INDEX IF EXISTS idx_order_items_order_item;
+
+CREATE SEQUENCE order_id_seq;
+CREATE SEQUENCE order_item_id_seq;
+
+CREATE TABLE orders (
+    id                  bigint NOT NULL DEFAULT nextval('order_id_seq'),
+    razorpay_order_id   varchar(255),
+    razorpay_payment_id varchar(255),
+    business_id         bigint NOT NULL,
+    user_id             bigint NOT NULL,
+    total_amount        numeric(38, 2) NOT NULL,
+    order_status        varchar(255) NOT NULL,
+    payment_status      varchar(255) NOT NULL,
+    created_at          timestamp(6) NOT NULL,
+    payment_mode        varchar(255) NOT NULL,
+    table_number        varchar(255),
+    order_note          varchar(500),
+    CONSTRAINT orders_pk PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE order_id_seq OWNED BY orders.id;
+
+CREATE TABLE order_items (
+    id               bigint NOT NULL DEFAULT nextval('order_item_id_seq'),
+    order_id         bigint NOT NULL,
+    order_created_at timestamp(6) NOT NULL,
+    item_id          bigint NOT NULL,
+    item_name        varchar(255) NOT NULL,
+    variant_name     varchar(255) NOT NULL,
+    quantity         integer NOT NULL,
+    price            numeric(38, 2) NOT NULL,
+    CONSTRAINT order_items_pk PRIMARY KEY (id, order_created_at),
+    CONSTRAINT order_items_order_fk FOREIGN KEY (order_id, order_created_at) REFERENCES orders (id, created_at)
+) PARTITION BY RANGE (order_created_at);
+ALTER SEQUENCE order_item_id_seq OWNED BY order_items.id;
+
+-- Rows outside every month partition (e.g. a clock far off) land here instead of failing the insert.
+-- OrderPartitionMaintainer creates months ahead, so these normally stay empty; when they don't, it creates
+-- the stranded months (moving their rows out) and reports the row count as a gauge.
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+CREATE TABLE order_items_default PARTITION OF order_items DEFAULT;
+
+-- Creates the orders and order_items partitions of the month containing p_month, if missing.
+-- Postgres refuses to add a partition while the default partition holds rows of its range, so if any
+-- landed there they are moved into new standalone tables first, which are then attached. Called by
+-- OrderPartitionMaintainer.
+CREATE OR REPLACE FUNCTION create_order_partitions(p_month date) RETURNS void AS $$
+DECLARE
+    v_from   date := date_trunc('month', p_month)::date;
+    v_to     date := (date_trunc('month', p_month) + interval '1 month')::date;
+    v_suffix text := to_char(v_from, '"y"YYYY"m"MM');
+    v_orders text := 'orders_' || v_suffix;
+    v_items  text := 'order_items_' || v_suffix;
+BEGIN
+    IF to_regclass(v_orders) IS NULL
+            AND EXISTS (SELECT 1 FROM orders_default WHERE created_at >= v_from AND created_at < v_to) THEN
+        EXECUTE format('CREATE TABLE %I (LIKE orders INCLUDING DEFAULTS)', v_orders);
+        EXECUTE format('CREATE TABLE %I (LIKE order_items INCLUDING DEFAULTS)', v_items);
+        -- Lines first, so no remaining line references a moved order
+        EXECUTE format('WITH moved AS (DELETE FROM order_items_default WHERE order_created_at >= %L '
+                       'AND order_created_at < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                       v_from, v_to, v_items);
+        EXECUTE format('WITH moved AS (DELETE FROM orders_default WHERE created_at >= %L '
+                       'AND created_at < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                       v_from, v_to, v_orders);
+        -- The delete released the moved orders' razorpay IDs through the trigger; reserve them again
+        EXECUTE format('INSERT INTO order_razorpay_keys (key_type, razorpay_id, order_id) '
+                       'SELECT ''order'', razorpay_order_id, id FROM %I WHERE razorpay_order_id IS NOT NULL '
+                       'UNION ALL '
+                       'SELECT ''payment'', razorpay_payment_id, id FROM %I WHERE razorpay_payment_id IS NOT NULL',
+                       v_orders, v_orders);
+        -- Attaching adds the parents' indexes and checks the lines' foreign key against the moved orders
+        EXECUTE format('ALTER TABLE orders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       v_orders, v_from, v_to);
+        EXECUTE format('ALTER TABLE order_items ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       v_items, v_from, v_to);
+        RETURN;
+    END IF;
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                   v_orders, v_from, v_to);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                   v_items, v_from, v_to);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches the month containing p_month from orders and order_items and moves both tables to the
+-- order_archive schema (and to p_tablespace, if given, e.g. one on a compressed volume).
+-- Returns false if the month has no partition. Called by OrderPartitionMaintainer.
+CREATE OR REPLACE FUNCTION archive_order_partitions(p_month date, p_tablespace text) RETURNS boolean AS $$
+DECLARE
+    v_suffix     text := to_char(date_trunc('month', p_month), '"y"YYYY"m"MM');
+    v_orders     text := 'orders_' || v_suffix;
+    v_items      text := 'order_items_' || v_suffix;
+    v_constraint text;
+BEGIN
+    IF to_regclass(v_orders) IS NULL THEN
+        RETURN false;
+    END IF;
+    CREATE SCHEMA IF NOT EXISTS order_archive;
+
+    -- Lines first: the orders partition can only leave once nothing in order_items references it
+    EXECUTE format('ALTER TABLE order_items DETACH PARTITION %I', v_items);
+    FOR v_constraint IN
+        SELECT conname FROM pg_constraint WHERE conrelid = v_items::regclass AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_items, v_constraint);
+    END LOOP;
+    EXECUTE format('ALTER TABLE orders DETACH PARTITION %I', v_orders);
+
+    EXECUTE format('ALTER TABLE %I SET SCHEMA order_archive', v_items);
+    EXECUTE format('ALTER TABLE %I SET SCHEMA order_archive', v_orders);
+    IF p_tablespace IS NOT NULL AND p_tablespace <> '' THEN
+        EXECUTE format('ALTER TABLE order_archive.%I SET TABLESPACE %I', v_items, p_tablespace);
+        EXECUTE format('ALTER TABLE order_archive.%I SET TABLESPACE %I', v_orders, p_tablespace);
+    END IF;
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month from the oldest order to three months ahead
+DO $$
+DECLARE
+    v_month date := date_trunc('month', COALESCE((SELECT min(created_at) FROM orders_unpartitioned), now()))::date;
+    v_last  date := (date_trunc('month', now()) + interval '3 months')::date;
+BEGIN
+    WHILE v_month <= v_last LOOP
+        PERFORM create_order_partitions(v_month);
+        v_month := (v_month + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO orders (id, razorpay_order_id, razorpay_payment_id, business_id, user_id, total_amount, order_status,
+                    payment_status, created_at, payment_mode, table_number, order_note)
+SELECT id, razorpay_order_id, razorpay_payment_id, business_id, user_id, total_amount, order_status,
+       payment_status, created_at, payment_mode, table_number, order_note
+FROM orders_unpartitioned;
+
+INSERT INTO order_items (id, order_id, order_created_at, item_id, item_name, variant_name, quantity, price)
+SELECT oi.id, oi.order_id, o.created_at, oi.item_id, oi.item_name, oi.variant_name, oi.quantity, oi.price
+FROM order_items_unpartitioned oi
+JOIN orders_unpartitioned o ON o.id = oi.order_id;
+
+SELECT setval('order_id_seq', COALESCE((SELECT max(id) FROM orders), 0) + 1, false);
+SELECT setval('order_item_id_seq', COALESCE((SELECT max(id) FROM order_items), 0) + 1, false);
+
+INSERT INTO order_razorpay_keys (key_type, razorpay_id, order_id)
+SELECT 'order', razorpay_order_id, id FROM orders WHERE razorpay_order_id IS NOT NULL
+UNION ALL
+SELECT 'payment', razorpay_payment_id, id FROM orders WHERE razorpay_payment_id IS NOT NULL;
+
+-- Mirrors the old UNIQUE columns: a duplicate raises unique_violation, and an ID is released when its order
+-- is deleted or the column changes (the old key is removed before the new one is added). Archived
+-- (detached) months keep their IDs reserved.
+CREATE OR REPLACE FUNCTION register_order_razorpay_keys() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF OLD.razorpay_order_id IS NOT NULL
+                AND (TG_OP = 'DELETE' OR NEW.razorpay_order_id IS DISTINCT FROM OLD.razorpay_order_id) THEN
+            DELETE FROM order_razorpay_keys
+            WHERE key_type = 'order' AND razorpay_id = OLD.razorpay_order_id AND order_id = OLD.id;
+        END IF;
+        IF OLD.razorpay_payment_id IS NOT NULL
+                AND (TG_OP = 'DELETE' OR NEW.razorpay_payment_id IS DISTINCT FROM OLD.razorpay_payment_id) THEN
+            DELETE FROM order_razorpay_keys
+            WHERE key_type = 'payment' AND razorpay_id = OLD.razorpay_payment_id AND order_id = OLD.id;
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NEW.razorpay_order_id IS NOT NULL
+                AND (TG_OP = 'INSERT' OR NEW.razorpay_order_id IS DISTINCT FROM OLD.razorpay_order_id) THEN
+            INSERT INTO order_razorpay_keys (key_type, razorpay_id, order_id)
+            VALUES ('order', NEW.razorpay_order_id, NEW.id);
+        END IF;
+        IF NEW.razorpay_payment_id IS NOT NULL
+                AND (TG_OP = 'INSERT' OR NEW.razorpay_payment_id IS DISTINCT FROM OLD.razorpay_payment_id) THEN
+            INSERT INTO order_razorpay_keys (key_type, razorpay_id, order_id)
+            VALUES ('payment', NEW.razorpay_payment_id, NEW.id);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER orders_register_razorpay_keys
+    AFTER INSERT OR UPDATE OF razorpay_order_id, razorpay_payment_id OR DELETE ON orders
+    FOR EACH ROW EXECUTE FUNCTION register_order_razorpay_keys();
+
+DROP TABLE order_items_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+-- V7's indexes, now created on every partition (current and future)
+CREATE INDEX idx_orders_business_created_at ON orders (business_id, created_at) INCLUDE (total_amount);
+CREATE INDEX idx_orders_business_pending ON orders (business_id, created_at) WHERE order_status = 'PENDING';
+CREATE INDEX idx_order_items_order_item ON order_items (order_id, item_id) INCLUDE (quantity);
@@ -0,0 +1,6 @@
+-- Resume checks for streaming item imports: the uploaded file's SHA-256 (a resumed import must upload the
+-- same content, not just the same size) and an optimistic-lock version, so a worker whose job was taken
+-- over after going stale cannot commit further chunks. Jobs from before this migration have no hash and
+-- are still matched by size.
+ALTER TABLE item_import_job ADD COLUMN file_sha256 varchar(64);
+ALTER TABLE item_import_job ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,132 @@
+package com.menubyte.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessHeatMapTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void countMinNeverUndercounts() {
+        // A narrow sketch, so many businesses share cells
+        BusinessHeatMap heatMap = new BusinessHeatMap(meterRegistry, 16, 10);
+        Random random = new Random(42);
+        Map<Long, Long> actual = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long businessId = random.nextInt(200);
+            heatMap.record(businessId);
+            actual.merge(businessId, 1L, Long::sum);
+        }
+
+        actual.forEach((businessId, count) -> assertThat(heatMap.estimate(businessId)).isGreaterThanOrEqualTo(count));
+    }
+
+    @Test
+    void admitsUntilFullThenOnlyBusinessesHotterThanTheColdest() {
+        BusinessHeatMap heatMap = new BusinessHeatMap(meterRegistry, 4096, 2);
+        record(heatMap, 1L, 5);
+        record(heatMap, 2L, 3);
+
+        record(heatMap, 3L, 3);
+        assertThat(heatMap.hottest(10)).containsExactly(1L, 2L);
+
+        record(heatMap, 3L, 1);
+        assertThat(heatMap.hottest(10)).containsExactly(1L, 3L);
+        assertThat(heatMap.hottest(1)).containsExactly(1L);
+        assertThat(meterRegistry.get("menubyte.heat.tracked").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void trackedBusinessesKeepUpdatingTheirCount() {
+        BusinessHeatMap heatMap = new BusinessHeatMap(meterRegistry, 4096, 2);
+        record(heatMap, 1L, 5);
+        record(heatMap, 2L, 3);
+
+        record(heatMap, 2L, 4);
+
+        assertThat(heatMap.hottest(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void decayHalvesCountsAndDropsBusinessesThatReachZero() {
+        BusinessHeatMap heatMap = new BusinessHeatMap(meterRegistry, 4096, 2);
+        record(heatMap, 1L, 8);
+        record(heatMap, 2L, 1);
+
+        heatMap.decay();
+
+        assertThat(heatMap.estimate(1L)).isEqualTo(4);
+        assertThat(heatMap.estimate(2L)).isZero();
+        assertThat(heatMap.hottest(10)).containsExactly(1L);
+        // There is room again, so the next business is admitted on its first request
+        record(heatMap, 3L, 1);
+        assertThat(heatMap.hottest(10)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void decayLowersTheAdmissionThreshold() {
+        BusinessHeatMap heatMap = new BusinessHeatMap(meterRegistry, 4096, 2);
+        record(heatMap, 1L, 20);
+        record(heatMap, 2L, 20);
+        heatMap.decay();
+        heatMap.decay();
+
+        // Both heavy hitters are at 5 now; a sixth request from a new business is enough to replace one
+        record(heatMap, 3L, 6);
+
+        assertThat(heatMap.hottest(10)).hasSize(2).startsWith(3L);
+    }
+
+    @Test
+    void concurrentAdmissionNeverExceedsTopK() throws Exception {
+        int topK = 8;
+        BusinessHeatMap heatMap = new BusinessHeatMap(meterRegistry, 4096, topK);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long offset = t * 1000L;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < 50; round++) {
+                        for (long businessId = 0; businessId < 100; businessId++) {
+                            heatMap.record(offset + businessId);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(heatMap.hottest(Integer.MAX_VALUE)).hasSize(topK).doesNotHaveDuplicates();
+        assertThat(meterRegistry.get("menubyte.heat.tracked").gauge().value()).isEqualTo(topK);
+    }
+
+    private static void record(BusinessHeatMap heatMap, long businessId, int times) {
+        for (int i = 0; i < times; i++) {
+            heatMap.record(businessId);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.menubyte.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> loads = new ArrayList<>();
+    private final Function<Long, String> loader = key -> {
+        loads.add(key);
+        return "value-" + key;
+    };
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryAtMaxEntries() {
+        LruCache<Long, String> cache = new LruCache<>("test", 3, meterRegistry);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(3L, loader);
+
+        cache.get(4L, loader);
+
+        assertThat(cache.size()).isEqualTo(3);
+        loads.clear();
+        cache.get(2L, loader);
+        cache.get(3L, loader);
+        cache.get(4L, loader);
+        assertThat(loads).isEmpty();
+        cache.get(1L, loader);
+        assertThat(loads).containsExactly(1L);
+    }
+
+    @Test
+    void getPromotesTheEntrySoItIsEvictedLast() {
+        LruCache<Long, String> cache = new LruCache<>("test", 3, meterRegistry);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(3L, loader);
+
+        assertThat(cache.get(1L, loader)).isEqualTo("value-1");
+        cache.get(4L, loader);
+
+        loads.clear();
+        cache.get(1L, loader);
+        cache.get(3L, loader);
+        cache.get(4L, loader);
+        assertThat(loads).isEmpty();
+        cache.get(2L, loader);
+        assertThat(loads).containsExactly(2L);
+    }
+
+    @Test
+    void capacityOneKeepsOnlyTheLatestEntry() {
+        LruCache<Long, String> cache = new LruCache<>("test", 1, meterRegistry);
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get(2L, loader);
+        cache.get(1L, loader);
+        assertThat(loads).containsExactly(1L, 2L, 1L);
+    }
+
+    @Test
+    void nullIsReturnedButNotCached() {
+        LruCache<Long, String> cache = new LruCache<>("test", 3, meterRegistry);
+        Function<Long, String> missing = key -> {
+            loads.add(key);
+            return null;
+        };
+
+        assertThat(cache.get(1L, missing)).isNull();
+        assertThat(cache.get(1L, missing)).isNull();
+        assertThat(loads).containsExactly(1L, 1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void loadThatRacedAnInvalidationIsNotStored() {
+        LruCache<Long, String> cache = new LruCache<>("test", 3, meterRegistry);
+
+        String value = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidateIfRemovesMatchingValues() {
+        LruCache<Long, String> cache = new LruCache<>("test", 3, meterRegistry);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        cache.invalidateIf("value-1"::equals);
+
+        assertThat(cache.size()).isEqualTo(1);
+        loads.clear();
+        cache.get(2L, loader);
+        assertThat(loads).isEmpty();
+    }
+
+    @Test
+    void reportsHitsMissesAndHitRatio() {
+        LruCache<Long, String> cache = new LruCache<>("test", 3, meterRegistry);
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("menubyte.cache.lookups").tags("cache", "test", "result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("menubyte.cache.lookups").tags("cache", "test", "result", "miss")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("menubyte.cache.size").tag("cache", "test").gauge().value()).isEqualTo(2);
+    }
+}
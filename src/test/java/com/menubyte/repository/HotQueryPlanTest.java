@@ -0,0 +1,361 @@
+package com.menubyte.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.menubyte.service.OrderPartitionMaintainer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hot repository methods are served by the indexes of {@code V7__hot_query_indexes.sql}.
+ *
+ * <p>Each method runs against a Flyway-migrated, seeded Postgres while the SQL Hibernate prepares is
+ * recorded; every statement is then planned with {@code EXPLAIN (GENERIC_PLAN)}, as a prepared statement
+ * would be, on a connection with sequential scans disabled so the planner only picks one when no index
+ * matches. A query
+ * fails on any {@code Seq Scan}, on an index scan without an {@code Index Cond} (a full index read), and
+ * when a scan of a hot table has no {@code Index Cond} on that table's hot predicate column.</p>
+ */
+@SpringBootTest(properties = {
+        // No background jobs, so only the test's statements run
+        "menubyte.warmup.enabled=false",
+        "menubyte.subscription-expiry.enabled=false"})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Set<String> INDEX_SCANS = Set.of("Index Scan", "Index Only Scan", "Bitmap Heap Scan");
+    private static final Pattern PARTITION = Pattern.compile("(.+)_(y\\d{4}m\\d{2}|default)");
+
+    // Seeded tenants, menus and orders spread over the last four months
+    private static final String SEED_SQL = """
+            INSERT INTO users (username, email, password, mobile_number, user_type)
+            SELECT 'owner' || g, 'owner' || g || '@example.com', 'secret', '98' || lpad(g::text, 8, '0'), 'OWNER'
+            FROM generate_series(1, 200) g;
+            INSERT INTO business (business_name, business_type, user_id)
+            SELECT 'Business ' || id, 'RESTAURANT', id FROM users;
+            INSERT INTO menu (business_id, menu_name) SELECT id, 'Menu' FROM business;
+            INSERT INTO category (category_description, menu_id)
+            SELECT 'Category ' || g, m.id FROM menu m, generate_series(1, 5) g;
+            INSERT INTO item (item_name, item_discount, veg_or_non_veg, item_availability, bestseller, deal_of_the_day,
+                              category_id, menu_id)
+            SELECT 'Item ' || c.id || '-' || g, 0, 'VEG', true, g = 1, false, c.id, c.menu_id
+            FROM category c, generate_series(1, 8) g;
+            INSERT INTO item_variant (variant_name, price, item_id)
+            SELECT v, 100, i.id FROM item i, unnest(ARRAY['Half', 'Full']) v;
+            INSERT INTO business_master (register_date, end_date, amount_paid, subscription_status, subscription_type,
+                                         user_id, business_id)
+            SELECT current_date - 300, current_date + (b.id % 400)::int - 30, 999, 'ACTIVE', 'GOLD', b.user_id, b.id
+            FROM business b;
+            INSERT INTO orders (business_id, user_id, total_amount, order_status, payment_status, created_at, payment_mode)
+            SELECT b.id, b.user_id, 250, CASE WHEN g % 10 = 0 THEN 'PENDING' ELSE 'COMPLETED' END, 'PAID',
+                   now() - (g % 120) * interval '1 day' - (g % 24) * interval '1 hour', 'CASH'
+            FROM business b, generate_series(1, 100) g;
+            INSERT INTO order_items (order_id, order_created_at, item_id, item_name, variant_name, quantity, price)
+            SELECT o.id, o.created_at, g, 'Item ' || g, 'Full', 1 + g % 3, 100
+            FROM orders o, generate_series(1, 3) g;
+            """;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private SqlRecorder sqlRecorder;
+    @Autowired
+    private OrderPartitionMaintainer orderPartitionMaintainer;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private BusinessMasterRepository businessMasterRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private long businessId;
+    private long userId;
+    private long menuId;
+    private long categoryId;
+    private long itemId;
+    private String mobileNumber;
+    private Connection explainConnection;
+    private Set<String> emptyRelations;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        jdbcTemplate.execute(SEED_SQL);
+        // Past months were not premade, so those orders start out in the default partitions
+        orderPartitionMaintainer.maintain();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders_default", Long.class)).isZero();
+        jdbcTemplate.execute("ANALYZE");
+        // Empty relations (months ahead, the default partitions) are planned from guessed sizes and cost
+        // nothing to scan, so checkScans skips them
+        emptyRelations = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT relname FROM pg_class WHERE relkind = 'r' AND reltuples = 0", String.class));
+
+        businessId = jdbcTemplate.queryForObject("SELECT min(id) FROM business", Long.class);
+        userId = jdbcTemplate.queryForObject("SELECT user_id FROM business WHERE id = ?", Long.class, businessId);
+        menuId = jdbcTemplate.queryForObject("SELECT id FROM menu WHERE business_id = ?", Long.class, businessId);
+        categoryId = jdbcTemplate.queryForObject("SELECT min(id) FROM category WHERE menu_id = ?", Long.class, menuId);
+        itemId = jdbcTemplate.queryForObject("SELECT min(id) FROM item WHERE category_id = ?", Long.class, categoryId);
+        mobileNumber = jdbcTemplate.queryForObject("SELECT mobile_number FROM users WHERE id = ?", String.class, userId);
+
+        // Simple query protocol, so the $n placeholders reach EXPLAIN instead of being taken as bind parameters
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        properties.setProperty("preferQueryMode", "simple");
+        explainConnection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+        try (Statement statement = explainConnection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    void closeExplainConnection() throws SQLException {
+        if (explainConnection != null) {
+            explainConnection.close();
+        }
+    }
+
+    Stream<Arguments> hotQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime monthAgo = now.minusDays(30);
+        Map<String, String> ordersWithLines = Map.of("orders", "business_id", "order_items", "order_id");
+        return Stream.of(
+                hotQuery("OrderRepository.findWithItemsByBusinessId", ordersWithLines,
+                        () -> orderRepository.findWithItemsByBusinessId(businessId)),
+                hotQuery("OrderRepository.findWithItemsByBusinessIdCreatedAfter", ordersWithLines,
+                        () -> orderRepository.findWithItemsByBusinessIdCreatedAfter(businessId, today)),
+                hotQuery("OrderRepository.findPendingWithItemsByBusinessIdCreatedAfter", ordersWithLines,
+                        () -> orderRepository.findPendingWithItemsByBusinessIdCreatedAfter(businessId, today)),
+                hotQuery("OrderRepository.findTotalSalesByBusinessAndPeriod", Map.of("orders", "business_id"),
+                        () -> orderRepository.findTotalSalesByBusinessAndPeriod(businessId, monthAgo, now)),
+                hotQuery("OrderRepository.findDailySalesByBusinessAndPeriod", Map.of("orders", "business_id"),
+                        () -> orderRepository.findDailySalesByBusinessAndPeriod(businessId, monthAgo, now)),
+                hotQuery("OrderRepository.findTopSellingItemsByBusinessAndPeriod", ordersWithLines,
+                        () -> orderRepository.findTopSellingItemsByBusinessAndPeriod(businessId, monthAgo, now)),
+                hotQuery("ItemRepository.findByCategoryIdAndMenuId", Map.of("item", "menu_id"),
+                        () -> itemRepository.findByCategoryIdAndMenuId(categoryId, menuId)),
+                hotQuery("ItemRepository.findDetailsByBusinessId",
+                        Map.of("menu", "business_id", "item", "menu_id", "item_variant", "item_id"),
+                        () -> itemRepository.findDetailsByBusinessId(businessId)),
+                hotQuery("Item.variants", Map.of("item_variant", "item_id"),
+                        () -> itemRepository.findById(itemId).orElseThrow().getVariants().size()),
+                hotQuery("CategoryRepository.findByMenuId", Map.of("category", "menu_id"),
+                        () -> categoryRepository.findByMenuId(menuId)),
+                hotQuery("MenuRepository.findByBusinessId", Map.of("menu", "business_id"),
+                        () -> menuRepository.findByBusinessId(businessId)),
+                hotQuery("BusinessMasterRepository.findEntitlementByBusinessId", Map.of("business_master", "business_id"),
+                        () -> businessMasterRepository.findEntitlementByBusinessId(businessId)),
+                hotQuery("BusinessMasterRepository.findWithUserAndBusinessByUserId", Map.of("business_master", "user_id"),
+                        () -> businessMasterRepository.findWithUserAndBusinessByUserId(userId)),
+                hotQuery("BusinessMasterRepository.findSubscriptionTypesByUserId", Map.of("business_master", "user_id"),
+                        () -> businessMasterRepository.findSubscriptionTypesByUserId(userId)),
+                hotQuery("UserRepository.findByMobileNumberAndPassword", Map.of("users", "mobile_number"),
+                        () -> userRepository.findByMobileNumberAndPassword(mobileNumber, "secret")));
+    }
+
+    /**
+     * @param indexedColumns hot table to the column its scans must use in an {@code Index Cond}
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryIsServedByAnIndex(String name, Map<String, String> indexedColumns, Runnable call) throws Exception {
+        List<String> statements = sqlRecorder.record(() -> inRolledBackTransaction(call));
+        assertThat(statements).as("SQL issued by %s", name).isNotEmpty();
+
+        List<String> problems = new ArrayList<>();
+        Set<String> scannedTables = new HashSet<>();
+        for (String sql : statements) {
+            checkScans(explain(sql), indexedColumns, scannedTables, problems);
+        }
+
+        assertThat(problems).as("plan problems of %s in %s", name, statements).isEmpty();
+        assertThat(scannedTables).as("tables scanned by %s", name).containsAll(indexedColumns.keySet());
+    }
+
+    private static Arguments hotQuery(String name, Map<String, String> indexedColumns, Runnable call) {
+        return Arguments.of(name, indexedColumns, call);
+    }
+
+    private void inRolledBackTransaction(Runnable call) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private JsonNode explain(String sql) throws SQLException, JsonProcessingException {
+        try (Statement statement = explainConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberParameters(sql))) {
+            resultSet.next();
+            return objectMapper.readTree(resultSet.getString(1)).path(0).path("Plan");
+        }
+    }
+
+    private void checkScans(JsonNode node, Map<String, String> indexedColumns, Set<String> scannedTables,
+                            List<String> problems) {
+        String nodeType = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText(null);
+        if (relation != null) {
+            String table = tableOf(relation);
+            scannedTables.add(table);
+            boolean checked = !emptyRelations.contains(relation);
+            if (checked && "Seq Scan".equals(nodeType)) {
+                problems.add("Seq Scan on " + relation);
+            } else if (checked && INDEX_SCANS.contains(nodeType)) {
+                List<String> conditions = indexConditions(node);
+                String column = indexedColumns.get(table);
+                if (conditions.isEmpty()) {
+                    problems.add(nodeType + " on " + relation + " without an Index Cond");
+                } else if (column != null && conditions.stream().noneMatch(condition -> mentions(condition, column))) {
+                    problems.add(nodeType + " on " + relation + " without " + column + " in " + conditions);
+                }
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            checkScans(child, indexedColumns, scannedTables, problems);
+        }
+    }
+
+    /** The scan's own Index Cond, or for a bitmap heap scan those of the bitmap index scans under it. */
+    private static List<String> indexConditions(JsonNode node) {
+        List<String> conditions = new ArrayList<>();
+        if (node.has("Index Cond")) {
+            conditions.add(node.path("Index Cond").asText());
+        }
+        if (node.path("Node Type").asText().startsWith("Bitmap")) {
+            for (JsonNode child : node.path("Plans")) {
+                conditions.addAll(indexConditions(child));
+            }
+        }
+        return conditions;
+    }
+
+    private static boolean mentions(String condition, String column) {
+        return Pattern.compile("\\b" + column + "\\b").matcher(condition).find();
+    }
+
+    /** Partitions (orders_y2026m01, orders_default) count as their parent table. */
+    private static String tableOf(String relation) {
+        Matcher matcher = PARTITION.matcher(relation);
+        return matcher.matches() ? matcher.group(1) : relation;
+    }
+
+    /** Hibernate's {@code ?} placeholders as the {@code $n} parameters EXPLAIN (GENERIC_PLAN) takes. */
+    static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean quoted = false;
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /** Records the SQL Hibernate prepares on the calling thread while {@link #record} runs. */
+    static class SqlRecorder implements StatementInspector {
+
+        private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+        List<String> record(Runnable call) {
+            List<String> statements = new ArrayList<>();
+            recording.set(statements);
+            try {
+                call.run();
+            } finally {
+                recording.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = recording.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlRecorderConfiguration {
+
+        @Bean
+        SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlRecorderInspector(SqlRecorder sqlRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlRecorder);
+        }
+    }
+}
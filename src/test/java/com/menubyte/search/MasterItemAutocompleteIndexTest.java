@@ -0,0 +1,134 @@
+package com.menubyte.search;
+
+import com.menubyte.dto.MasterItemSuggestion;
+import com.menubyte.enums.BusinessType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MasterItemAutocompleteIndexTest {
+
+    private static final MasterItemAutocompleteIndex CATALOG = MasterItemAutocompleteIndex.build(List.of(
+            entry(1L, "Aloo Paratha"),
+            entry(2L, "Butter Paneer Masala"),
+            entry(3L, "Paneer Tikka"),
+            entry(4L, "Masala Dosa"),
+            entry(5L, "Zucchini Soup")));
+
+    @Test
+    void prefixFindsEveryWordStart() {
+        assertThat(ids(CATALOG.suggest("paneer", null, null, 10))).containsExactly(3L, 2L);
+        assertThat(ids(CATALOG.suggest("masala", null, null, 10))).containsExactly(4L, 2L);
+        assertThat(ids(CATALOG.suggest("paneer ma", null, null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void prefixDoesNotMatchInsideAWord() {
+        assertThat(CATALOG.suggest("neer", null, null, 10)).isEmpty();
+        assertThat(CATALOG.suggest("tter", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void lowerBoundHandlesPrefixesAtTheEndsOfTheKeyRange() {
+        // First and last keys in sort order
+        assertThat(ids(CATALOG.suggest("a", null, null, 10))).containsExactly(1L);
+        assertThat(ids(CATALOG.suggest("zucchini soup", null, null, 10))).containsExactly(5L);
+        // Before the first key and past the last
+        assertThat(CATALOG.suggest("0", null, null, 10)).isEmpty();
+        assertThat(CATALOG.suggest("zz", null, null, 10)).isEmpty();
+        // Between two keys without matching either
+        assertThat(CATALOG.suggest("papad", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void prefixIsNormalisedLikeTheNames() {
+        assertThat(ids(CATALOG.suggest("  PANEER  tik", null, null, 10))).containsExactly(3L);
+        assertThat(CATALOG.suggest("", null, null, 10)).isEmpty();
+        assertThat(CATALOG.suggest("paneer", null, null, 0)).isEmpty();
+    }
+
+    @Test
+    void filtersOnCategoryAndBusinessType() {
+        MasterItemAutocompleteIndex index = MasterItemAutocompleteIndex.build(List.of(
+                new MasterItemAutocompleteIndex.Entry(1L, "Hair Spa", 7L, BusinessType.SALON, 0),
+                new MasterItemAutocompleteIndex.Entry(2L, "Hakka Noodles", 8L, BusinessType.RESTAURANT, 0)));
+
+        assertThat(ids(index.suggest("ha", null, BusinessType.SALON, 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("ha", 8L, null, 10))).containsExactly(2L);
+        assertThat(index.suggest("ha", 7L, BusinessType.RESTAURANT, 10)).isEmpty();
+    }
+
+    @Test
+    void applyRemovesAndReplacesItems() {
+        MasterItemAutocompleteIndex updated = CATALOG.apply(Set.of(4L), List.of(entry(3L, "Paneer Pakora")));
+
+        assertThat(updated.size()).isEqualTo(4);
+        assertThat(updated.suggest("dosa", null, null, 10)).isEmpty();
+        assertThat(updated.suggest("tikka", null, null, 10)).isEmpty();
+        assertThat(names(updated.suggest("paneer p", null, null, 10))).containsExactly("Paneer Pakora");
+        // Remaining keys stay searchable after the merge
+        assertThat(ids(updated.suggest("masala", null, null, 10))).containsExactly(2L);
+        assertThat(ids(updated.suggest("a", null, null, 10))).containsExactly(1L);
+        // The original index is untouched
+        assertThat(CATALOG.size()).isEqualTo(5);
+        assertThat(ids(CATALOG.suggest("dosa", null, null, 10))).containsExactly(4L);
+    }
+
+    @Test
+    void removingAndReaddingTheSameIdKeepsTheNewEntry() {
+        MasterItemAutocompleteIndex sameCall = CATALOG.apply(Set.of(3L), List.of(entry(3L, "Tandoori Paneer")));
+
+        assertThat(sameCall.size()).isEqualTo(5);
+        assertThat(names(sameCall.suggest("paneer", null, null, 10))).containsExactly("Butter Paneer Masala", "Tandoori Paneer");
+        assertThat(sameCall.suggest("tikka", null, null, 10)).isEmpty();
+
+        MasterItemAutocompleteIndex removed = CATALOG.apply(Set.of(3L), List.of());
+        MasterItemAutocompleteIndex readded = removed.apply(Set.of(), List.of(entry(3L, "Paneer Tikka")));
+
+        assertThat(removed.size()).isEqualTo(4);
+        assertThat(removed.suggest("tikka", null, null, 10)).isEmpty();
+        assertThat(readded.size()).isEqualTo(5);
+        assertThat(ids(readded.suggest("tikka", null, null, 10))).containsExactly(3L);
+    }
+
+    @Test
+    void withUsageCountsOrdersByUsageThenNameStartThenName() {
+        MasterItemAutocompleteIndex counted = CATALOG.withUsageCounts(Map.of(2L, 40L, 4L, 40L, 3L, 5L));
+
+        // 2 and 4 tie on usage; 4 starts with the prefix
+        assertThat(ids(counted.suggest("masala", null, null, 10))).containsExactly(4L, 2L);
+        // 2 is used more, so it now ranks ahead of 3 even though 3 starts with the prefix
+        List<MasterItemSuggestion> paneer = counted.suggest("paneer", null, null, 10);
+        assertThat(ids(paneer)).containsExactly(2L, 3L);
+        assertThat(paneer.get(0).getUsageCount()).isEqualTo(40L);
+        // Items missing from the counts drop to zero
+        assertThat(counted.suggest("aloo", null, null, 10).get(0).getUsageCount()).isZero();
+        assertThat(ids(counted.suggest("paneer", null, null, 1))).containsExactly(2L);
+        // Counts don't leak into the index they were derived from
+        assertThat(ids(CATALOG.suggest("paneer", null, null, 10))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void usageCountsSurviveLaterUpdates() {
+        MasterItemAutocompleteIndex counted = CATALOG.withUsageCounts(Map.of(2L, 40L));
+        MasterItemAutocompleteIndex updated = counted.apply(Set.of(), List.of(entry(6L, "Paneer Bhurji")));
+
+        assertThat(ids(updated.suggest("paneer", null, null, 10))).containsExactly(2L, 6L, 3L);
+    }
+
+    private static MasterItemAutocompleteIndex.Entry entry(Long id, String name) {
+        return new MasterItemAutocompleteIndex.Entry(id, name, 1L, BusinessType.RESTAURANT, 0);
+    }
+
+    private static List<Long> ids(List<MasterItemSuggestion> suggestions) {
+        return suggestions.stream().map(MasterItemSuggestion::getId).toList();
+    }
+
+    private static List<String> names(List<MasterItemSuggestion> suggestions) {
+        return suggestions.stream().map(MasterItemSuggestion::getItemName).toList();
+    }
+}
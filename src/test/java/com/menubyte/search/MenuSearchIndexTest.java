@@ -0,0 +1,202 @@
+package com.menubyte.search;
+
+import com.menubyte.dto.CategoryDTO;
+import com.menubyte.dto.ItemDTO;
+import com.menubyte.dto.MenuDTO;
+import com.menubyte.enums.VegNonVeg;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuSearchIndexTest {
+
+    @Test
+    void boundedDistanceReturnsTheDistanceWithinTheBound() {
+        assertThat(MenuSearchIndex.boundedDistance("paneer", "paneer", 1)).isZero();
+        assertThat(MenuSearchIndex.boundedDistance("panner", "paneer", 1)).isEqualTo(1);
+        assertThat(MenuSearchIndex.boundedDistance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(MenuSearchIndex.boundedDistance("biryaani", "biryani", 2)).isEqualTo(1);
+    }
+
+    @Test
+    void boundedDistanceGivesUpPastTheBound() {
+        assertThat(MenuSearchIndex.boundedDistance("kitten", "sitting", 2)).isEqualTo(-1);
+        assertThat(MenuSearchIndex.boundedDistance("panir", "paneer", 1)).isEqualTo(-1);
+        // Length difference alone exceeds the bound
+        assertThat(MenuSearchIndex.boundedDistance("tea", "teapot", 2)).isEqualTo(-1);
+    }
+
+    @Test
+    void tokenizeFoldsCaseAndAccentsAndSplitsOnPunctuation() {
+        assertThat(MenuSearchIndex.tokenize("Crème-Brûlée, 2 pcs")).containsExactly("creme", "brulee", "2", "pcs");
+        assertThat(MenuSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void emptyQueryReturnsNothing() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Curries",
+                item(10L, "Paneer Butter Masala", null))));
+
+        assertThat(index.search("", null, null, 10)).isEmpty();
+        assertThat(index.search(null, null, null, 10)).isEmpty();
+        assertThat(index.search(" !! ", null, null, 10)).isEmpty();
+        assertThat(index.search("paneer", null, null, 0)).isEmpty();
+    }
+
+    @Test
+    void exactMatchOutranksPrefixAndFuzzyMatches() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Curries",
+                item(10L, "Paneer Tikka", null),
+                item(11L, "Paneeri Roll", null),
+                item(12L, "Panner Bhurji", null))));
+
+        List<MenuSearchIndex.Hit> hits = index.search("paneer", null, null, 10);
+
+        assertThat(ids(hits)).containsExactly(10L, 11L, 12L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+        assertThat(hits.get(1).getScore()).isGreaterThan(hits.get(2).getScore());
+    }
+
+    @Test
+    void typoToleranceFindsCandidatesThroughSharedTrigrams() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Rice",
+                item(10L, "Chicken Biryani", null),
+                item(11L, "Jeera Rice", null))));
+
+        assertThat(ids(index.search("biryaani", null, null, 10))).containsExactly(10L);
+        assertThat(ids(index.search("chiken", null, null, 10))).containsExactly(10L);
+    }
+
+    @Test
+    void typoThresholdGrowsWithTokenLength() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Mains",
+                item(10L, "Dal Fry", null),
+                item(11L, "Paneer Tikka", null),
+                item(12L, "Margherita Pizza", null))));
+
+        // Up to 3 characters: exact or prefix only
+        assertThat(index.search("dai", null, null, 10)).isEmpty();
+        // 4 to 6 characters: one edit
+        assertThat(ids(index.search("panner", null, null, 10))).containsExactly(11L);
+        assertThat(index.search("panir", null, null, 10)).isEmpty();
+        // 7 or more: two edits
+        assertThat(ids(index.search("mrgheritta", null, null, 10))).containsExactly(12L);
+        assertThat(index.search("margaritta", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void oneCharacterTermsMatchByPrefixOnly() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Drinks",
+                item(10L, "7 Up", null),
+                item(11L, "Badam Milk", null),
+                item(12L, "Lassi", null))));
+
+        assertThat(ids(index.search("7", null, null, 10))).containsExactly(10L);
+        assertThat(ids(index.search("b", null, null, 10))).containsExactly(11L);
+        assertThat(index.search("x", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void everyQueryTokenMustMatchAndCategoryAndDescriptionCount() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(
+                category(1L, "Starters", item(10L, "Paneer Tikka", "smoky tandoor")),
+                category(2L, "Curries", item(11L, "Paneer Butter Masala", null))));
+
+        assertThat(ids(index.search("paneer curries", null, null, 10))).containsExactly(11L);
+        assertThat(ids(index.search("paneer smoky", null, null, 10))).containsExactly(10L);
+        assertThat(index.search("paneer naan", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void filtersOnVegAndAvailability() {
+        ItemDTO veg = item(10L, "Veg Momos", null);
+        ItemDTO chicken = item(11L, "Chicken Momos", null);
+        chicken.setVegOrNonVeg(VegNonVeg.NON_VEG);
+        chicken.setItemAvailability(false);
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Snacks", veg, chicken)));
+
+        assertThat(ids(index.search("momos", VegNonVeg.VEG, null, 10))).containsExactly(10L);
+        assertThat(ids(index.search("momos", null, true, 10))).containsExactly(10L);
+        assertThat(ids(index.search("momos", null, null, 1))).hasSize(1);
+    }
+
+    @Test
+    void updateRetokenisesChangedItemsOnly() {
+        ItemDTO tikka = item(10L, "Paneer Tikka", null);
+        ItemDTO naan = item(11L, "Butter Naan", null);
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Mains", tikka, naan)));
+
+        ItemDTO renamed = item(10L, "Malai Tikka", null);
+        ItemDTO unavailableNaan = item(11L, "Butter Naan", null);
+        unavailableNaan.setItemAvailability(false);
+        MenuSearchIndex updated = index.update(menu(category(1L, "Mains", renamed, unavailableNaan)), Set.of(10L));
+
+        assertThat(ids(updated.search("malai", null, null, 10))).containsExactly(10L);
+        assertThat(updated.search("paneer", null, null, 10)).isEmpty();
+        // Unchanged item keeps its tokens but carries the newer snapshot's data
+        assertThat(updated.search("naan", null, true, 10)).isEmpty();
+        assertThat(updated.search("naan", null, null, 10).get(0).getItem()).isSameAs(unavailableNaan);
+        // The original index is untouched
+        assertThat(ids(index.search("paneer", null, null, 10))).containsExactly(10L);
+    }
+
+    @Test
+    void updateRetokenisesItemsThatMovedCategory() {
+        ItemDTO soup = item(10L, "Tomato Soup", null);
+        MenuSearchIndex index = MenuSearchIndex.build(menu(
+                category(1L, "Starters", soup), category(2L, "Soups")));
+
+        MenuSearchIndex updated = index.update(menu(
+                category(1L, "Starters"), category(2L, "Soups", soup)), Set.of());
+
+        List<MenuSearchIndex.Hit> hits = updated.search("soups", null, null, 10);
+        assertThat(ids(hits)).containsExactly(10L);
+        assertThat(hits.get(0).getCategoryId()).isEqualTo(2L);
+        assertThat(updated.search("starters", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void updateDropsRemovedItems() {
+        MenuSearchIndex index = MenuSearchIndex.build(menu(category(1L, "Mains",
+                item(10L, "Paneer Tikka", null),
+                item(11L, "Butter Naan", null))));
+
+        MenuSearchIndex updated = index.update(menu(category(1L, "Mains",
+                item(11L, "Butter Naan", null))), Set.of(10L));
+
+        assertThat(updated.size()).isEqualTo(1);
+        assertThat(updated.search("paneer", null, null, 10)).isEmpty();
+        assertThat(updated.search("tikka", null, null, 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<MenuSearchIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.getItem().getId()).toList();
+    }
+
+    private static MenuDTO menu(CategoryDTO... categories) {
+        MenuDTO menu = new MenuDTO();
+        menu.setCategories(List.of(categories));
+        return menu;
+    }
+
+    private static CategoryDTO category(Long id, String name, ItemDTO... items) {
+        CategoryDTO category = new CategoryDTO();
+        category.setId(id);
+        category.setCategoryName(name);
+        category.setItems(List.of(items));
+        return category;
+    }
+
+    private static ItemDTO item(Long id, String name, String description) {
+        ItemDTO item = new ItemDTO();
+        item.setId(id);
+        item.setItemName(name);
+        item.setItemDescription(description);
+        item.setVegOrNonVeg(VegNonVeg.VEG);
+        item.setItemAvailability(true);
+        return item;
+    }
+}